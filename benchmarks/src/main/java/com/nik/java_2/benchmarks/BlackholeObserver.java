@@ -0,0 +1,41 @@
+package com.nik.java_2.benchmarks;
+
+import com.nik.java_2.interfaces.Observer;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Наблюдатель, передающий элементы в Blackhole и позволяющий дождаться завершения потока.
+ */
+final class BlackholeObserver<T> implements Observer<T> {
+    private final Blackhole blackhole;
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    BlackholeObserver(Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    @Override
+    public void onNext(T item) {
+        blackhole.consume(item);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        blackhole.consume(t);
+        latch.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+        latch.countDown();
+    }
+
+    void await() throws InterruptedException {
+        if (!latch.await(30, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Stream did not terminate in time");
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.nik.java_2.benchmarks;
+
+import com.nik.java_2.Observable;
+import com.nik.java_2.interfaces.Scheduler;
+import com.nik.java_2.scheduler.Schedulers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Разветвление (fan-out) элементов одного потока по асинхронным внутренним потокам
+ * с ограничением width одновременно активных и слияние (fan-in) width асинхронных источников в один.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FanBenchmark {
+
+    @Param({"computation", "io", "virtual", "forkJoin", "eventLoop"})
+    public String scheduler;
+
+    @Param({"1", "16", "256"})
+    public int width;
+
+    @Param({"1000"})
+    public int count;
+
+    private Observable<Integer> fanOut;
+    private Observable<Integer> fanIn;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Scheduler target = Sources.scheduler(scheduler);
+        int perInner = Math.max(1, count / width);
+
+        fanOut = Sources.range(count)
+                .flatMap(value -> Sources.just(value).subscribeOn(target), width);
+
+        Observable<Observable<Integer>> sources = Observable.create(emitter -> {
+            for (int i = 0; i < width; i++) {
+                emitter.onNext(Sources.range(perInner).subscribeOn(target));
+            }
+            emitter.onComplete();
+        });
+        fanIn = sources.flatMap(inner -> inner);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        Schedulers.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public void fanOut(Blackhole blackhole) throws InterruptedException {
+        BlackholeObserver<Integer> observer = new BlackholeObserver<>(blackhole);
+        fanOut.subscribe(observer);
+        observer.await();
+    }
+
+    @Benchmark
+    public void fanIn(Blackhole blackhole) throws InterruptedException {
+        BlackholeObserver<Integer> observer = new BlackholeObserver<>(blackhole);
+        fanIn.subscribe(observer);
+        observer.await();
+    }
+}
@@ -0,0 +1,95 @@
+package com.nik.java_2.benchmarks;
+
+import com.nik.java_2.Observable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Синхронные цепочки операторов разной глубины.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OperatorBenchmark {
+
+    @Param({"1", "1000", "1000000"})
+    public int count;
+
+    @Param({"1", "5", "10"})
+    public int depth;
+
+    private Observable<Integer> source;
+    private Observable<Integer> mapChain;
+    private Observable<Integer> filterChain;
+    private Observable<Integer> mixedChain;
+    private Observable<Integer> flatMapChain;
+
+    @Setup
+    public void setup() {
+        source = Sources.range(count);
+
+        Observable<Integer> chain = source;
+        for (int i = 0; i < depth; i++) {
+            chain = chain.map(value -> value + 1);
+        }
+        mapChain = chain;
+
+        chain = source;
+        for (int i = 0; i < depth; i++) {
+            chain = chain.filter(value -> value >= 0);
+        }
+        filterChain = chain;
+
+        chain = source;
+        for (int i = 0; i < depth; i++) {
+            chain = i % 2 == 0 ? chain.map(value -> value + 1) : chain.filter(value -> (value & 1) == 0);
+        }
+        mixedChain = chain.limit(Math.max(1, count / 2));
+
+        chain = source;
+        for (int i = 0; i < depth; i++) {
+            chain = chain.flatMap(Sources::just);
+        }
+        flatMapChain = chain;
+    }
+
+    @Benchmark
+    public void subscribe(Blackhole blackhole) {
+        source.subscribe(new BlackholeObserver<>(blackhole));
+    }
+
+    @Benchmark
+    public void map(Blackhole blackhole) {
+        mapChain.subscribe(new BlackholeObserver<>(blackhole));
+    }
+
+    @Benchmark
+    public void filter(Blackhole blackhole) {
+        filterChain.subscribe(new BlackholeObserver<>(blackhole));
+    }
+
+    @Benchmark
+    public void mapFilterLimit(Blackhole blackhole) {
+        mixedChain.subscribe(new BlackholeObserver<>(blackhole));
+    }
+
+    @Benchmark
+    public void flatMap(Blackhole blackhole) {
+        flatMapChain.subscribe(new BlackholeObserver<>(blackhole));
+    }
+}
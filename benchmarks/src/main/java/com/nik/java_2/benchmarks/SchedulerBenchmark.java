@@ -0,0 +1,78 @@
+package com.nik.java_2.benchmarks;
+
+import com.nik.java_2.Observable;
+import com.nik.java_2.interfaces.Scheduler;
+import com.nik.java_2.scheduler.Schedulers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Переключение потоков через observeOn и subscribeOn на каждом из планировщиков.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SchedulerBenchmark {
+
+    @Param({"computation", "io", "single", "virtual", "forkJoin", "eventLoop"})
+    public String scheduler;
+
+    @Param({"1", "1000", "100000"})
+    public int count;
+
+    private Observable<Integer> observeOn;
+    private Observable<Integer> subscribeOn;
+    private Observable<Integer> subscribeOnObserveOn;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Scheduler target = Sources.scheduler(scheduler);
+        Observable<Integer> source = Sources.range(count);
+        observeOn = source.observeOn(target);
+        subscribeOn = source.subscribeOn(target);
+        subscribeOnObserveOn = source.subscribeOn(target).observeOn(target);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        Schedulers.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public void observeOn(Blackhole blackhole) throws InterruptedException {
+        BlackholeObserver<Integer> observer = new BlackholeObserver<>(blackhole);
+        observeOn.subscribe(observer);
+        observer.await();
+    }
+
+    @Benchmark
+    public void subscribeOn(Blackhole blackhole) throws InterruptedException {
+        BlackholeObserver<Integer> observer = new BlackholeObserver<>(blackhole);
+        subscribeOn.subscribe(observer);
+        observer.await();
+    }
+
+    @Benchmark
+    public void subscribeOnObserveOn(Blackhole blackhole) throws InterruptedException {
+        BlackholeObserver<Integer> observer = new BlackholeObserver<>(blackhole);
+        subscribeOnObserveOn.subscribe(observer);
+        observer.await();
+    }
+}
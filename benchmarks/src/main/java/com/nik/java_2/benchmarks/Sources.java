@@ -0,0 +1,39 @@
+package com.nik.java_2.benchmarks;
+
+import com.nik.java_2.Observable;
+import com.nik.java_2.interfaces.Scheduler;
+import com.nik.java_2.scheduler.Schedulers;
+
+final class Sources {
+
+    private Sources() {
+    }
+
+    static Observable<Integer> range(int count) {
+        return Observable.create(emitter -> {
+            for (int i = 0; i < count && !emitter.isDisposed(); i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        });
+    }
+
+    static Observable<Integer> just(int value) {
+        return Observable.create(emitter -> {
+            emitter.onNext(value);
+            emitter.onComplete();
+        });
+    }
+
+    static Scheduler scheduler(String name) {
+        return switch (name) {
+            case "computation" -> Schedulers.computation();
+            case "io" -> Schedulers.io();
+            case "single" -> Schedulers.single();
+            case "virtual" -> Schedulers.virtual();
+            case "forkJoin" -> Schedulers.forkJoin();
+            case "eventLoop" -> Schedulers.eventLoop();
+            default -> throw new IllegalArgumentException("Unknown scheduler: " + name);
+        };
+    }
+}
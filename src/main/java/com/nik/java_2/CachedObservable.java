@@ -0,0 +1,205 @@
+package com.nik.java_2;
+
+import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.ObservableEmitter;
+import com.nik.java_2.interfaces.Observer;
+import com.nik.java_2.internal.SubscriberArray;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Observable, который подписывается на источник один раз, при первой подписке,
+ * запоминает его элементы и воспроизводит их каждому подписчику.
+ * Элементы хранятся в связанных массивах фиксированного размера: добавление не создаёт
+ * узел на каждый элемент и не копирует уже сохранённое при росте.
+ * Пишет в хранилище только поток источника, а каждый подписчик читает его со своего курсора
+ * без блокировок, в том числе пока источник ещё выдаёт элементы.
+ * При ограничении maxSize начальные массивы, целиком вышедшие за пределы окна, отбрасываются,
+ * а новый подписчик начинает с последних maxSize элементов.
+ *
+ * @param <T> тип элементов
+ */
+final class CachedObservable<T> extends Observable<T> implements Observer<T> {
+    private static final int CHUNK_SIZE = 128;
+
+    private final Observable<T> source;
+    private final int maxSize;
+    private final AtomicBoolean connected = new AtomicBoolean();
+    private final SubscriberArray<CacheSubscription<?>> subscribers = new SubscriberArray<>(CacheSubscription<?>[]::new);
+    private volatile Chunk head;
+    private volatile long size;
+    private volatile boolean done;
+    private Throwable error;
+    private Chunk tail;
+    private int tailOffset;
+
+    CachedObservable(Observable<T> source, int maxSize) {
+        this.source = source;
+        this.maxSize = maxSize;
+        Chunk first = new Chunk(0L);
+        this.head = first;
+        this.tail = first;
+    }
+
+    @Override
+    protected void subscribeActual(ObservableEmitter<T> emitter) {
+        CacheSubscription<T> subscription = new CacheSubscription<>(emitter, this);
+        emitter.setDisposable(subscription);
+        subscribers.add(subscription);
+        if (connected.compareAndSet(false, true)) {
+            source.subscribe(this);
+        } else {
+            replay(subscription);
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        int offset = tailOffset;
+        if (offset == CHUNK_SIZE) {
+            Chunk chunk = new Chunk(tail.start + CHUNK_SIZE);
+            tail.next = chunk;
+            tail = chunk;
+            offset = 0;
+        }
+        tail.items[offset] = item;
+        tailOffset = offset + 1;
+        long newSize = size + 1;
+        size = newSize;
+        Chunk h = head;
+        if (newSize - (h.start + CHUNK_SIZE) >= maxSize && h.next != null) {
+            head = h.next;
+        }
+        for (CacheSubscription<?> subscription : subscribers.get()) {
+            replay(subscription);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        error = t;
+        terminate();
+    }
+
+    @Override
+    public void onComplete() {
+        terminate();
+    }
+
+    private void terminate() {
+        done = true;
+        for (CacheSubscription<?> subscription : subscribers.terminate()) {
+            replay(subscription);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void replay(CacheSubscription<?> target) {
+        CacheSubscription<T> subscription = (CacheSubscription<T>) target;
+        if (subscription.wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        for (;;) {
+            if (subscription.chunk == null) {
+                Chunk h = head;
+                long start = Math.max(h.start, size - maxSize);
+                while (start - h.start > CHUNK_SIZE) {
+                    h = h.next;
+                }
+                subscription.chunk = h;
+                subscription.index = start;
+                subscription.offset = (int) (start - h.start);
+            }
+            Chunk chunk = subscription.chunk;
+            int offset = subscription.offset;
+            long index = subscription.index;
+            ObservableEmitter<T> downstream = subscription.downstream;
+            for (;;) {
+                if (subscription.isDisposed()) {
+                    subscription.chunk = null;
+                    return;
+                }
+                boolean isDone = done;
+                long available = size;
+                while (index < available) {
+                    if (offset == CHUNK_SIZE) {
+                        chunk = chunk.next;
+                        offset = 0;
+                    }
+                    downstream.onNext((T) chunk.items[offset]);
+                    offset++;
+                    index++;
+                    if (subscription.isDisposed()) {
+                        subscription.chunk = null;
+                        return;
+                    }
+                }
+                if (isDone && index == available) {
+                    Throwable t = error;
+                    if (t != null) {
+                        downstream.onError(t);
+                    } else {
+                        downstream.onComplete();
+                    }
+                    return;
+                }
+                if (index == size) {
+                    break;
+                }
+            }
+            subscription.chunk = chunk;
+            subscription.offset = offset;
+            subscription.index = index;
+            missed = subscription.wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Массив элементов хранилища. start — порядковый номер первого элемента массива.
+     */
+    private static final class Chunk {
+        final long start;
+        final Object[] items = new Object[CHUNK_SIZE];
+        volatile Chunk next;
+
+        Chunk(long start) {
+            this.start = start;
+        }
+    }
+
+    /**
+     * Подписчик хранилища со своим курсором: массив, смещение в нём и порядковый номер.
+     */
+    private static final class CacheSubscription<T> implements Disposable {
+        final ObservableEmitter<T> downstream;
+        final CachedObservable<T> parent;
+        final AtomicInteger wip = new AtomicInteger();
+        Chunk chunk;
+        int offset;
+        long index;
+        private volatile boolean disposed;
+
+        CacheSubscription(ObservableEmitter<T> downstream, CachedObservable<T> parent) {
+            this.downstream = downstream;
+            this.parent = parent;
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                parent.subscribers.remove(this);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
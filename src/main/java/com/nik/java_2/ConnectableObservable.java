@@ -0,0 +1,207 @@
+package com.nik.java_2;
+
+import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.ObservableEmitter;
+import com.nik.java_2.interfaces.Observer;
+import com.nik.java_2.internal.DisposableResource;
+import com.nik.java_2.subject.PublishSubject;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Observable, который раздаёт одну подписку на источник всем своим подписчикам.
+ * Подписка сама по себе не запускает источник: он запускается один раз вызовом {@link #connect()},
+ * после чего события получают все подписчики, подключившиеся к этому моменту или позже.
+ * После завершения источника следующий connect() запускает его заново.
+ *
+ * @param <T> тип элементов
+ */
+public final class ConnectableObservable<T> extends Observable<T> {
+    private final Observable<T> source;
+    private final AtomicReference<Connection<T>> current = new AtomicReference<>();
+
+    ConnectableObservable(Observable<T> source) {
+        this.source = source;
+    }
+
+    @Override
+    protected void subscribeActual(ObservableEmitter<T> emitter) {
+        connection().subject.subscribe(emitter);
+    }
+
+    /**
+     * Подписывается на источник, если подписка ещё не выполнена.
+     * Для синхронного источника все события будут переданы до возврата из метода.
+     *
+     * @return Disposable для отключения от источника
+     */
+    public Disposable connect() {
+        Connection<T> connection = connection();
+        if (connection.connected.compareAndSet(false, true)) {
+            source.subscribe(connection);
+        }
+        return connection;
+    }
+
+    /**
+     * Возвращает Observable, который подключается к источнику при появлении первого подписчика
+     * и отключается от него, когда отписывается последний, чтобы не выполнять лишнюю работу.
+     *
+     * @return Observable с общей подпиской на источник
+     */
+    public Observable<T> refCount() {
+        RefCount<T> refCount = new RefCount<>(this);
+        return Observable.create(refCount::subscribe);
+    }
+
+    private Connection<T> connection() {
+        for (;;) {
+            Connection<T> connection = current.get();
+            if (connection != null) {
+                return connection;
+            }
+            Connection<T> fresh = new Connection<>(this);
+            if (current.compareAndSet(null, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    /**
+     * Одна подписка на источник: события передаются в PublishSubject,
+     * к которому подключены подписчики. После завершения или отключения
+     * подписка перестаёт быть текущей, и новые подписчики ждут следующего connect().
+     */
+    private static final class Connection<T> implements Observer<T>, Disposable {
+        private final ConnectableObservable<T> parent;
+        private final PublishSubject<T> subject = PublishSubject.create();
+        private final AtomicBoolean connected = new AtomicBoolean();
+        private final DisposableResource upstream = new DisposableResource();
+
+        Connection(ConnectableObservable<T> parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream.setDisposable(d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            subject.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            parent.current.compareAndSet(this, null);
+            subject.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            parent.current.compareAndSet(this, null);
+            subject.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            parent.current.compareAndSet(this, null);
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+
+    /**
+     * Счётчик подписчиков refCount. Первый подписчик вызывает connect(),
+     * а отмена подписки последним отключает источник.
+     */
+    private static final class RefCount<T> {
+        private final ConnectableObservable<T> parent;
+        private int subscribers;
+        private Disposable connection;
+
+        RefCount(ConnectableObservable<T> parent) {
+            this.parent = parent;
+        }
+
+        void subscribe(ObservableEmitter<T> emitter) {
+            boolean connect;
+            synchronized (this) {
+                connect = ++subscribers == 1;
+            }
+            RefCountDisposable subscription = new RefCountDisposable(this);
+            emitter.setDisposable(subscription);
+            subscription.inner.setDisposable(parent.subscribe(new Observer<T>() {
+                @Override
+                public void onNext(T item) {
+                    emitter.onNext(item);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    emitter.onError(t);
+                }
+
+                @Override
+                public void onComplete() {
+                    emitter.onComplete();
+                }
+            }));
+            if (connect) {
+                Disposable connected = parent.connect();
+                boolean disconnect;
+                synchronized (this) {
+                    disconnect = subscribers == 0;
+                    if (!disconnect) {
+                        connection = connected;
+                    }
+                }
+                if (disconnect) {
+                    connected.dispose();
+                }
+            }
+        }
+
+        void release() {
+            Disposable disconnect = null;
+            synchronized (this) {
+                if (--subscribers == 0) {
+                    disconnect = connection;
+                    connection = null;
+                }
+            }
+            if (disconnect != null) {
+                disconnect.dispose();
+            }
+        }
+    }
+
+    private static final class RefCountDisposable implements Disposable {
+        private final RefCount<?> refCount;
+        private final DisposableResource inner = new DisposableResource();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        RefCountDisposable(RefCount<?> refCount) {
+            this.refCount = refCount;
+        }
+
+        @Override
+        public void dispose() {
+            inner.dispose();
+            if (released.compareAndSet(false, true)) {
+                refCount.release();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return released.get();
+        }
+    }
+}
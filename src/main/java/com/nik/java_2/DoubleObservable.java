@@ -0,0 +1,429 @@
+package com.nik.java_2;
+
+import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.DoubleEmitter;
+import com.nik.java_2.interfaces.DoubleObserver;
+import com.nik.java_2.internal.DisposableResource;
+
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Поток чисел double без упаковки значений.
+ * Элементы передаются наблюдателю через {@link DoubleObserver#onNext(double)},
+ * поэтому цепочки map/filter/limit не создают объектов на каждый элемент.
+ */
+public class DoubleObservable {
+
+    /**
+     * Интерфейс для подписки на источник данных.
+     */
+    public interface OnSubscribe {
+        void subscribe(DoubleEmitter emitter);
+    }
+
+    private final OnSubscribe subscriptionAction;
+
+    /**
+     * Конструктор DoubleObservable.
+     *
+     * @param subscriptionAction действие, выполняемое при подписке
+     */
+    public DoubleObservable(OnSubscribe subscriptionAction) {
+        this.subscriptionAction = subscriptionAction;
+    }
+
+    /**
+     * Создаёт новый DoubleObservable из источника данных.
+     *
+     * @param source источник данных
+     * @return новый экземпляр DoubleObservable
+     */
+    public static DoubleObservable create(OnSubscribe source) {
+        return new DoubleObservable(source);
+    }
+
+    /**
+     * Создаёт поток из заданных значений.
+     *
+     * @param values значения потока
+     * @return новый DoubleObservable
+     */
+    public static DoubleObservable of(double... values) {
+        return DoubleObservable.create(emitter -> {
+            for (int i = 0; i < values.length && !emitter.isDisposed(); i++) {
+                emitter.onNext(values[i]);
+            }
+            emitter.onComplete();
+        });
+    }
+
+    /**
+     * Подписывает наблюдателя на этот DoubleObservable.
+     *
+     * @param observer наблюдатель, принимающий элементы потока
+     * @return Disposable-объект для отмены подписки
+     */
+    public Disposable subscribe(DoubleObserver observer) {
+        CreateEmitter emitter = new CreateEmitter(observer);
+        observer.onSubscribe(emitter);
+        subscriptionAction.subscribe(emitter);
+        return emitter;
+    }
+
+    /**
+     * Осуществляет трансформацию элементов потока с помощью функции mapper.
+     *
+     * @param mapper функция для трансформации элементов
+     * @return новый DoubleObservable с трансформированными элементами
+     */
+    public DoubleObservable map(DoubleUnaryOperator mapper) {
+        return DoubleObservable.create(observer ->
+                this.subscribe(new DoubleObserver() {
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        observer.setDisposable(d);
+                    }
+
+                    @Override
+                    public void onNext(double value) {
+                        double transformedValue;
+                        try {
+                            transformedValue = mapper.applyAsDouble(value);
+                        } catch (Throwable throwable) {
+                            observer.onError(throwable);
+                            return;
+                        }
+                        observer.onNext(transformedValue);
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        observer.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Фильтрует элементы потока согласно заданному предикату.
+     *
+     * @param condition условие фильтрации элементов
+     * @return новый DoubleObservable, содержащий только элементы, удовлетворяющие предикату
+     */
+    public DoubleObservable filter(DoublePredicate condition) {
+        return DoubleObservable.create(observer ->
+                this.subscribe(new DoubleObserver() {
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        observer.setDisposable(d);
+                    }
+
+                    @Override
+                    public void onNext(double value) {
+                        boolean passed;
+                        try {
+                            passed = condition.test(value);
+                        } catch (Throwable throwable) {
+                            observer.onError(throwable);
+                            return;
+                        }
+                        if (passed) {
+                            observer.onNext(value);
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        observer.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Ограничивает количество элементов потока.
+     * После получения maxItems элементов подписка на источник отменяется.
+     *
+     * @param maxItems максимальное количество элементов
+     * @return новый DoubleObservable, ограниченный заданным количеством элементов
+     */
+    public DoubleObservable limit(long maxItems) {
+        return DoubleObservable.create(observer ->
+                this.subscribe(new DoubleObserver() {
+                    private Disposable upstream;
+                    private long emittedCount;
+                    private boolean done;
+
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        upstream = d;
+                        observer.setDisposable(d);
+                        if (maxItems <= 0) {
+                            done = true;
+                            d.dispose();
+                            observer.onComplete();
+                        }
+                    }
+
+                    @Override
+                    public void onNext(double value) {
+                        if (done) {
+                            return;
+                        }
+                        observer.onNext(value);
+                        if (++emittedCount == maxItems) {
+                            done = true;
+                            upstream.dispose();
+                            observer.onComplete();
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        if (done) {
+                            return;
+                        }
+                        done = true;
+                        observer.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        if (done) {
+                            return;
+                        }
+                        done = true;
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Суммирует элементы потока.
+     *
+     * @return DoubleObservable из одного элемента — суммы (0 для пустого потока)
+     */
+    public DoubleObservable sum() {
+        return DoubleObservable.create(observer ->
+                this.subscribe(new DoubleObserver() {
+                    private double sum;
+
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        observer.setDisposable(d);
+                    }
+
+                    @Override
+                    public void onNext(double value) {
+                        sum += value;
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        observer.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        observer.onNext(sum);
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Находит минимальный элемент потока.
+     *
+     * @return DoubleObservable из одного элемента или пустой, если источник пуст
+     */
+    public DoubleObservable min() {
+        return reduce(true);
+    }
+
+    /**
+     * Находит максимальный элемент потока.
+     *
+     * @return DoubleObservable из одного элемента или пустой, если источник пуст
+     */
+    public DoubleObservable max() {
+        return reduce(false);
+    }
+
+    private DoubleObservable reduce(boolean minimum) {
+        return DoubleObservable.create(observer ->
+                this.subscribe(new DoubleObserver() {
+                    private double result;
+                    private boolean hasValue;
+
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        observer.setDisposable(d);
+                    }
+
+                    @Override
+                    public void onNext(double value) {
+                        if (!hasValue) {
+                            hasValue = true;
+                            result = value;
+                        } else {
+                            result = minimum ? Math.min(result, value) : Math.max(result, value);
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        observer.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        if (hasValue) {
+                            observer.onNext(result);
+                        }
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Вычисляет среднее арифметическое элементов потока.
+     *
+     * @return DoubleObservable из одного элемента или пустой, если источник пуст
+     */
+    public DoubleObservable average() {
+        return DoubleObservable.create(observer ->
+                this.subscribe(new DoubleObserver() {
+                    private double sum;
+                    private long count;
+
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        observer.setDisposable(d);
+                    }
+
+                    @Override
+                    public void onNext(double value) {
+                        sum += value;
+                        count++;
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        observer.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        if (count != 0) {
+                            observer.onNext(sum / count);
+                        }
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Преобразует элементы потока в объекты.
+     *
+     * @param mapper функция преобразования
+     * @param <R> тип элементов результирующего потока
+     * @return Observable с преобразованными элементами
+     */
+    public <R> Observable<R> mapToObj(DoubleFunction<R> mapper) {
+        return Observable.create(observer ->
+                this.subscribe(new DoubleObserver() {
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        observer.setDisposable(d);
+                    }
+
+                    @Override
+                    public void onNext(double value) {
+                        R transformedValue;
+                        try {
+                            transformedValue = mapper.apply(value);
+                        } catch (Throwable throwable) {
+                            observer.onError(throwable);
+                            return;
+                        }
+                        observer.onNext(transformedValue);
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        observer.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Упаковывает элементы потока в объекты Double.
+     *
+     * @return Observable с упакованными элементами
+     */
+    public Observable<Double> boxed() {
+        return mapToObj(Double::valueOf);
+    }
+
+    private static final class CreateEmitter extends DisposableResource implements DoubleEmitter {
+        private final DoubleObserver observer;
+
+        CreateEmitter(DoubleObserver observer) {
+            this.observer = observer;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            setDisposable(d);
+        }
+
+        @Override
+        public void onNext(double value) {
+            if (!isDisposed()) observer.onNext(value);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            if (!isDisposed()) {
+                try {
+                    observer.onError(error);
+                } finally {
+                    dispose();
+                }
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!isDisposed()) {
+                try {
+                    observer.onComplete();
+                } finally {
+                    dispose();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,1112 @@
+package com.nik.java_2;
+
+import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.Observer;
+import com.nik.java_2.interfaces.Scheduler;
+import com.nik.java_2.interfaces.Subscriber;
+import com.nik.java_2.interfaces.Subscription;
+import com.nik.java_2.internal.SpscArrayQueue;
+
+import java.util.Iterator;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Класс Flowable для работы с потоком данных с поддержкой обратного давления (backpressure).
+ * В отличие от {@link Observable}, источник выдаёт элементы только после того,
+ * как подписчик запросил их через {@link Subscription#request(long)},
+ * поэтому быстрый источник не переполняет медленного потребителя.
+ *
+ * @param <T> тип данных, испускаемых Flowable
+ */
+public class Flowable<T> {
+
+    /**
+     * Размер буфера по умолчанию для операторов observeOn и flatMap.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 128;
+
+    /**
+     * Интерфейс для подписки на источник данных.
+     * Источник обязан вызвать {@link Subscriber#onSubscribe(Subscription)}
+     * и выдавать не больше элементов, чем было запрошено.
+     *
+     * @param <T> тип данных, которые будут переданы подписчику
+     */
+    public interface OnSubscribe<T> {
+        void subscribe(Subscriber<T> subscriber);
+    }
+
+    private final OnSubscribe<T> subscriptionAction;
+
+    /**
+     * Конструктор Flowable.
+     *
+     * @param subscriptionAction действие, выполняемое при подписке
+     */
+    public Flowable(OnSubscribe<T> subscriptionAction) {
+        this.subscriptionAction = subscriptionAction;
+    }
+
+    /**
+     * Создаёт новый Flowable из источника данных, который сам соблюдает запрошенный спрос.
+     *
+     * @param source источник данных
+     * @param <T> тип элементов потока
+     * @return новый экземпляр Flowable
+     */
+    public static <T> Flowable<T> create(OnSubscribe<T> source) {
+        return new Flowable<>(source);
+    }
+
+    /**
+     * Создаёт Flowable, элементы которого вычисляются генератором по одному на каждый запрос.
+     * За один вызов генератор должен выдать ровно один элемент через onNext
+     * либо завершить поток через onComplete или onError.
+     *
+     * @param generator генератор элементов
+     * @param <T> тип элементов потока
+     * @return новый экземпляр Flowable
+     */
+    public static <T> Flowable<T> generate(Consumer<Observer<T>> generator) {
+        return Flowable.create(subscriber -> {
+            GenerateSubscription<T> subscription = new GenerateSubscription<>(subscriber, generator);
+            subscriber.onSubscribe(subscription);
+        });
+    }
+
+    /**
+     * Создаёт Flowable, выдающий элементы коллекции по мере запроса.
+     *
+     * @param items источник элементов
+     * @param <T> тип элементов потока
+     * @return новый экземпляр Flowable
+     */
+    public static <T> Flowable<T> fromIterable(Iterable<T> items) {
+        return Flowable.create(subscriber -> {
+            Iterator<T> iterator;
+            boolean hasItems;
+            try {
+                iterator = items.iterator();
+                hasItems = iterator.hasNext();
+            } catch (Throwable throwable) {
+                subscriber.onSubscribe(EmptySubscription.INSTANCE);
+                subscriber.onError(throwable);
+                return;
+            }
+            if (!hasItems) {
+                subscriber.onSubscribe(EmptySubscription.INSTANCE);
+                subscriber.onComplete();
+                return;
+            }
+            subscriber.onSubscribe(new IteratorSubscription<>(subscriber, iterator));
+        });
+    }
+
+    /**
+     * Создаёт Flowable, выдающий последовательность целых чисел по мере запроса.
+     *
+     * @param start первое число последовательности
+     * @param count количество чисел
+     * @return новый экземпляр Flowable
+     */
+    public static Flowable<Integer> range(int start, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count >= 0 required but it was " + count);
+        }
+        return Flowable.create(subscriber -> {
+            if (count == 0) {
+                subscriber.onSubscribe(EmptySubscription.INSTANCE);
+                subscriber.onComplete();
+                return;
+            }
+            subscriber.onSubscribe(new RangeSubscription(subscriber, start, (long) start + count));
+        });
+    }
+
+    /**
+     * Подписывает подписчика, который сам управляет спросом через {@link Subscription}.
+     *
+     * @param subscriber подписчик
+     */
+    public void subscribe(Subscriber<T> subscriber) {
+        subscriptionAction.subscribe(subscriber);
+    }
+
+    /**
+     * Подписывает наблюдателя без ограничения спроса.
+     *
+     * @param observer наблюдатель, принимающий элементы потока
+     * @return Disposable-объект для отмены подписки
+     */
+    public Disposable subscribe(Observer<T> observer) {
+        ObserverSubscriber<T> subscriber = new ObserverSubscriber<>(observer);
+        subscribe(subscriber);
+        return subscriber;
+    }
+
+    /**
+     * Осуществляет трансформацию элементов потока с помощью функции mapper.
+     *
+     * @param mapper функция для трансформации элементов
+     * @param <R> новый тип элементов после применения функции mapper
+     * @return новый Flowable с трансформированными элементами
+     */
+    public <R> Flowable<R> map(Function<T, R> mapper) {
+        return Flowable.create(subscriber ->
+                this.subscribe(new Subscriber<T>() {
+                    private Subscription upstream;
+                    private boolean done;
+
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        upstream = subscription;
+                        subscriber.onSubscribe(subscription);
+                    }
+
+                    @Override
+                    public void onNext(T value) {
+                        if (done) {
+                            return;
+                        }
+                        R transformedValue;
+                        try {
+                            transformedValue = mapper.apply(value);
+                        } catch (Throwable throwable) {
+                            upstream.cancel();
+                            onError(throwable);
+                            return;
+                        }
+                        subscriber.onNext(transformedValue);
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        if (done) {
+                            return;
+                        }
+                        done = true;
+                        subscriber.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        if (done) {
+                            return;
+                        }
+                        done = true;
+                        subscriber.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Фильтрует элементы потока согласно заданному предикату.
+     * Вместо каждого отброшенного элемента у источника запрашивается следующий.
+     *
+     * @param condition условие фильтрации элементов
+     * @return новый Flowable, содержащий только элементы, удовлетворяющие предикату
+     */
+    public Flowable<T> filter(Predicate<T> condition) {
+        return Flowable.create(subscriber ->
+                this.subscribe(new Subscriber<T>() {
+                    private Subscription upstream;
+                    private boolean done;
+
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        upstream = subscription;
+                        subscriber.onSubscribe(subscription);
+                    }
+
+                    @Override
+                    public void onNext(T value) {
+                        if (done) {
+                            return;
+                        }
+                        boolean passed;
+                        try {
+                            passed = condition.test(value);
+                        } catch (Throwable throwable) {
+                            upstream.cancel();
+                            onError(throwable);
+                            return;
+                        }
+                        if (passed) {
+                            subscriber.onNext(value);
+                        } else {
+                            upstream.request(1);
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        if (done) {
+                            return;
+                        }
+                        done = true;
+                        subscriber.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        if (done) {
+                            return;
+                        }
+                        done = true;
+                        subscriber.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Ограничивает количество элементов потока.
+     * У источника никогда не запрашивается больше maxItems элементов,
+     * а после получения последнего из них подписка на источник отменяется.
+     *
+     * @param maxItems максимальное количество элементов
+     * @return новый Flowable, ограниченный заданным количеством элементов
+     */
+    public Flowable<T> limit(long maxItems) {
+        if (maxItems < 0) {
+            throw new IllegalArgumentException("maxItems >= 0 required but it was " + maxItems);
+        }
+        return Flowable.create(subscriber -> this.subscribe(new LimitSubscriber<>(subscriber, maxItems)));
+    }
+
+    /**
+     * Преобразует каждый элемент в новый Flowable и объединяет результаты.
+     * Одновременно активно не более {@link #DEFAULT_BUFFER_SIZE} внутренних потоков.
+     *
+     * @param mapper функция, преобразующая элемент в Flowable
+     * @param <R> тип элементов результирующего потока
+     * @return новый Flowable после преобразования и объединения элементов
+     */
+    public <R> Flowable<R> flatMap(Function<T, Flowable<R>> mapper) {
+        return flatMap(mapper, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Преобразует каждый элемент в новый Flowable и объединяет результаты,
+     * ограничивая число одновременно активных внутренних потоков.
+     *
+     * @param mapper функция, преобразующая элемент в Flowable
+     * @param maxConcurrency максимальное число одновременно активных внутренних потоков
+     * @param <R> тип элементов результирующего потока
+     * @return новый Flowable после преобразования и объединения элементов
+     */
+    public <R> Flowable<R> flatMap(Function<T, Flowable<R>> mapper, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency > 0 required but it was " + maxConcurrency);
+        }
+        return Flowable.create(subscriber ->
+                this.subscribe(new FlatMapSubscriber<>(subscriber, mapper, maxConcurrency, DEFAULT_BUFFER_SIZE))
+        );
+    }
+
+    /**
+     * Указывает Scheduler, на котором будет происходить подписка на Flowable.
+     *
+     * @param scheduler планировщик, управляющий потоком выполнения
+     * @return Flowable, подписка на который будет выполняться на заданном Scheduler
+     */
+    public Flowable<T> subscribeOn(Scheduler scheduler) {
+        return Flowable.create(subscriber -> {
+            Scheduler.Worker worker = scheduler.createWorker();
+            worker.execute(() -> {
+                worker.dispose();
+                Flowable.this.subscribe(subscriber);
+            });
+        });
+    }
+
+    /**
+     * Указывает Scheduler, на котором будут обрабатываться вызовы Subscriber.
+     * Использует буфер размера {@link #DEFAULT_BUFFER_SIZE}.
+     *
+     * @param scheduler планировщик, на котором будут обрабатываться события
+     * @return Flowable, события которого будут обрабатываться на заданном Scheduler
+     */
+    public Flowable<T> observeOn(Scheduler scheduler) {
+        return observeOn(scheduler, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Указывает Scheduler, на котором будут обрабатываться вызовы Subscriber.
+     * У источника запрашивается не больше bufferSize элементов сверх уже обработанных,
+     * поэтому очередь между потоками остаётся ограниченной.
+     *
+     * @param scheduler планировщик, на котором будут обрабатываться события
+     * @param bufferSize размер буфера между источником и подписчиком
+     * @return Flowable, события которого будут обрабатываться на заданном Scheduler
+     */
+    public Flowable<T> observeOn(Scheduler scheduler, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize > 0 required but it was " + bufferSize);
+        }
+        return Flowable.create(subscriber ->
+                this.subscribe(new ObserveOnSubscriber<>(subscriber, scheduler, bufferSize))
+        );
+    }
+
+    /**
+     * Атомарно добавляет n к счётчику спроса, ограничивая результат значением Long.MAX_VALUE.
+     *
+     * @return значение счётчика до добавления
+     */
+    static long addRequested(AtomicLong requested, long n) {
+        for (;;) {
+            long current = requested.get();
+            if (current == Long.MAX_VALUE) {
+                return Long.MAX_VALUE;
+            }
+            long next = current + n;
+            if (next < 0L) {
+                next = Long.MAX_VALUE;
+            }
+            if (requested.compareAndSet(current, next)) {
+                return current;
+            }
+        }
+    }
+
+    private static final Subscription CANCELLED = new Subscription() {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    };
+
+    private enum EmptySubscription implements Subscription {
+        INSTANCE;
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+
+    /**
+     * Базовая подписка синхронного источника: выдаёт элементы в цикле,
+     * пока не исчерпан запрошенный спрос.
+     */
+    private abstract static class SourceSubscription<T> implements Subscription {
+        final Subscriber<T> downstream;
+        private final AtomicLong requested = new AtomicLong();
+        volatile boolean cancelled;
+
+        SourceSubscription(Subscriber<T> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                downstream.onError(new IllegalArgumentException("n > 0 required but it was " + n));
+                return;
+            }
+            if (addRequested(requested, n) == 0) {
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void drain() {
+            long emitted = 0;
+            long limit = requested.get();
+            for (;;) {
+                while (emitted != limit) {
+                    if (cancelled) {
+                        return;
+                    }
+                    if (!emitNext()) {
+                        cancelled = true;
+                        return;
+                    }
+                    emitted++;
+                }
+                limit = requested.get();
+                if (emitted == limit) {
+                    limit = requested.addAndGet(-emitted);
+                    if (limit == 0) {
+                        return;
+                    }
+                    emitted = 0;
+                }
+            }
+        }
+
+        /**
+         * Выдаёт следующий элемент.
+         *
+         * @return false, если поток завершён и больше элементов не будет
+         */
+        abstract boolean emitNext();
+    }
+
+    private static final class IteratorSubscription<T> extends SourceSubscription<T> {
+        private final Iterator<T> iterator;
+
+        IteratorSubscription(Subscriber<T> downstream, Iterator<T> iterator) {
+            super(downstream);
+            this.iterator = iterator;
+        }
+
+        @Override
+        boolean emitNext() {
+            T value;
+            try {
+                if (!iterator.hasNext()) {
+                    downstream.onComplete();
+                    return false;
+                }
+                value = iterator.next();
+            } catch (Throwable throwable) {
+                downstream.onError(throwable);
+                return false;
+            }
+            downstream.onNext(value);
+            return true;
+        }
+    }
+
+    private static final class RangeSubscription extends SourceSubscription<Integer> {
+        private final long end;
+        private long index;
+
+        RangeSubscription(Subscriber<Integer> downstream, long start, long end) {
+            super(downstream);
+            this.index = start;
+            this.end = end;
+        }
+
+        @Override
+        boolean emitNext() {
+            if (index == end) {
+                downstream.onComplete();
+                return false;
+            }
+            downstream.onNext((int) index++);
+            return true;
+        }
+    }
+
+    private static final class GenerateSubscription<T> extends SourceSubscription<T> implements Observer<T> {
+        private final Consumer<Observer<T>> generator;
+        private boolean emitted;
+        private boolean terminated;
+
+        GenerateSubscription(Subscriber<T> downstream, Consumer<Observer<T>> generator) {
+            super(downstream);
+            this.generator = generator;
+        }
+
+        @Override
+        boolean emitNext() {
+            emitted = false;
+            try {
+                generator.accept(this);
+            } catch (Throwable throwable) {
+                onError(throwable);
+            }
+            if (!terminated && !emitted) {
+                onError(new IllegalStateException("Generator must emit an item or terminate"));
+            }
+            return !terminated;
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (terminated) {
+                return;
+            }
+            if (emitted) {
+                onError(new IllegalStateException("Generator emitted more than one item"));
+                return;
+            }
+            emitted = true;
+            downstream.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (terminated) {
+                return;
+            }
+            terminated = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (terminated) {
+                return;
+            }
+            terminated = true;
+            downstream.onComplete();
+        }
+    }
+
+    /**
+     * Адаптер Observer к Subscriber: запрашивает неограниченное число элементов.
+     */
+    private static final class ObserverSubscriber<T> implements Subscriber<T>, Disposable {
+        private final Observer<T> observer;
+        private final AtomicReference<Subscription> upstream = new AtomicReference<>();
+
+        ObserverSubscriber(Observer<T> observer) {
+            this.observer = observer;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (upstream.compareAndSet(null, subscription)) {
+                subscription.request(Long.MAX_VALUE);
+            } else {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (!isDisposed()) observer.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (!isDisposed()) observer.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (!isDisposed()) observer.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            Subscription current = upstream.getAndSet(CANCELLED);
+            if (current != null && current != CANCELLED) {
+                current.cancel();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.get() == CANCELLED;
+        }
+    }
+
+    private static final class LimitSubscriber<T> implements Subscriber<T>, Subscription {
+        private final Subscriber<T> downstream;
+        private final long maxItems;
+        private final AtomicLong requested = new AtomicLong();
+        private Subscription upstream;
+        private long remaining;
+        private boolean done;
+
+        LimitSubscriber(Subscriber<T> downstream, long maxItems) {
+            this.downstream = downstream;
+            this.maxItems = maxItems;
+            this.remaining = maxItems;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            if (maxItems == 0) {
+                subscription.cancel();
+                done = true;
+                downstream.onSubscribe(EmptySubscription.INSTANCE);
+                downstream.onComplete();
+                return;
+            }
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            downstream.onNext(item);
+            if (--remaining == 0) {
+                done = true;
+                upstream.cancel();
+                downstream.onComplete();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                upstream.request(n);
+                return;
+            }
+            for (;;) {
+                long current = requested.get();
+                if (current >= maxItems) {
+                    return;
+                }
+                long next = current + n;
+                if (next < 0L || next > maxItems) {
+                    next = maxItems;
+                }
+                if (requested.compareAndSet(current, next)) {
+                    upstream.request(next - current);
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void cancel() {
+            upstream.cancel();
+        }
+    }
+
+    private static final class ObserveOnSubscriber<T> implements Subscriber<T>, Subscription, Runnable {
+        private final Subscriber<T> downstream;
+        private final Scheduler.Worker worker;
+        private final int bufferSize;
+        private final int replenishLimit;
+        private final SpscArrayQueue<T> queue;
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private Subscription upstream;
+        private volatile boolean done;
+        private volatile boolean cancelled;
+        private Throwable error;
+        private long emitted;
+        private int consumed;
+
+        ObserveOnSubscriber(Subscriber<T> downstream, Scheduler scheduler, int bufferSize) {
+            this.downstream = downstream;
+            this.worker = scheduler.createWorker();
+            this.bufferSize = bufferSize;
+            this.replenishLimit = bufferSize - (bufferSize >> 2);
+            this.queue = new SpscArrayQueue<>(bufferSize);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(this);
+            subscription.request(bufferSize);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            if (!queue.offer(item)) {
+                upstream.cancel();
+                onError(new IllegalStateException("Queue is full: upstream ignored backpressure"));
+                return;
+            }
+            schedule();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            error = t;
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                downstream.onError(new IllegalArgumentException("n > 0 required but it was " + n));
+                cancel();
+                return;
+            }
+            addRequested(requested, n);
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            upstream.cancel();
+            worker.dispose();
+            if (wip.getAndIncrement() == 0) {
+                queue.clear();
+            }
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                worker.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            long produced = emitted;
+            for (;;) {
+                long limit = requested.get();
+                while (produced != limit) {
+                    boolean isDone = done;
+                    T value = queue.poll();
+                    boolean empty = value == null;
+                    if (checkTerminated(isDone, empty)) {
+                        return;
+                    }
+                    if (empty) {
+                        break;
+                    }
+                    downstream.onNext(value);
+                    produced++;
+                    if (++consumed == replenishLimit) {
+                        consumed = 0;
+                        upstream.request(replenishLimit);
+                    }
+                }
+                if (produced == limit && checkTerminated(done, queue.isEmpty())) {
+                    return;
+                }
+                int current = wip.get();
+                if (current == missed) {
+                    emitted = produced;
+                    missed = wip.addAndGet(-missed);
+                    if (missed == 0) {
+                        return;
+                    }
+                } else {
+                    missed = current;
+                }
+            }
+        }
+
+        private boolean checkTerminated(boolean isDone, boolean empty) {
+            if (cancelled) {
+                queue.clear();
+                return true;
+            }
+            if (isDone) {
+                Throwable t = error;
+                if (t != null) {
+                    cancelled = true;
+                    worker.dispose();
+                    queue.clear();
+                    downstream.onError(t);
+                    return true;
+                }
+                if (empty) {
+                    cancelled = true;
+                    worker.dispose();
+                    downstream.onComplete();
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class FlatMapSubscriber<T, R> implements Subscriber<T>, Subscription {
+        private final Subscriber<R> downstream;
+        private final Function<T, Flowable<R>> mapper;
+        private final int maxConcurrency;
+        private final int bufferSize;
+        private final CopyOnWriteArrayList<InnerSubscriber<R>> inners = new CopyOnWriteArrayList<>();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private Subscription upstream;
+        private volatile boolean done;
+        private volatile boolean cancelled;
+        private long emitted;
+
+        FlatMapSubscriber(Subscriber<R> downstream, Function<T, Flowable<R>> mapper,
+                          int maxConcurrency, int bufferSize) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+            this.maxConcurrency = maxConcurrency;
+            this.bufferSize = bufferSize;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(this);
+            subscription.request(maxConcurrency == Integer.MAX_VALUE ? Long.MAX_VALUE : maxConcurrency);
+        }
+
+        @Override
+        public void onNext(T value) {
+            if (done) {
+                return;
+            }
+            Flowable<R> innerFlowable;
+            try {
+                innerFlowable = mapper.apply(value);
+            } catch (Throwable throwable) {
+                upstream.cancel();
+                onError(throwable);
+                return;
+            }
+            InnerSubscriber<R> inner = new InnerSubscriber<>(this, bufferSize);
+            inners.add(inner);
+            if (cancelled) {
+                inner.cancel();
+                return;
+            }
+            innerFlowable.subscribe(inner);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            error.compareAndSet(null, t);
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                downstream.onError(new IllegalArgumentException("n > 0 required but it was " + n));
+                cancel();
+                return;
+            }
+            addRequested(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            upstream.cancel();
+            cancelInners();
+            if (wip.getAndIncrement() == 0) {
+                inners.clear();
+            }
+        }
+
+        void innerError(Throwable t) {
+            if (error.compareAndSet(null, t)) {
+                upstream.cancel();
+                done = true;
+            }
+            drain();
+        }
+
+        private void cancelInners() {
+            for (InnerSubscriber<R> inner : inners) {
+                inner.cancel();
+            }
+        }
+
+        void drain() {
+            if (wip.getAndIncrement() == 0) {
+                drainLoop();
+            }
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            long produced = emitted;
+            for (;;) {
+                if (checkTerminated()) {
+                    return;
+                }
+                boolean isDone = done;
+                if (isDone && inners.isEmpty()) {
+                    cancelled = true;
+                    downstream.onComplete();
+                    return;
+                }
+
+                long limit = requested.get();
+                int completedInners = 0;
+                for (InnerSubscriber<R> inner : inners) {
+                    while (produced != limit) {
+                        R value = inner.queue.poll();
+                        if (value == null) {
+                            break;
+                        }
+                        downstream.onNext(value);
+                        produced++;
+                        if (checkTerminated()) {
+                            return;
+                        }
+                        inner.consumedOne();
+                    }
+                    if (inner.done && inner.queue.isEmpty()) {
+                        inners.remove(inner);
+                        completedInners++;
+                    }
+                }
+
+                if (completedInners != 0) {
+                    if (!done) {
+                        upstream.request(completedInners);
+                    }
+                    continue;
+                }
+
+                int current = wip.get();
+                if (current == missed) {
+                    emitted = produced;
+                    missed = wip.addAndGet(-missed);
+                    if (missed == 0) {
+                        return;
+                    }
+                } else {
+                    missed = current;
+                }
+            }
+        }
+
+        private boolean checkTerminated() {
+            if (cancelled) {
+                inners.clear();
+                return true;
+            }
+            Throwable t = error.get();
+            if (t != null) {
+                cancelled = true;
+                cancelInners();
+                inners.clear();
+                downstream.onError(t);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class InnerSubscriber<R> implements Subscriber<R> {
+        private final FlatMapSubscriber<?, R> parent;
+        private final int bufferSize;
+        private final int replenishLimit;
+        private final AtomicReference<Subscription> upstream = new AtomicReference<>();
+        final SpscArrayQueue<R> queue;
+        volatile boolean done;
+        private int consumed;
+
+        InnerSubscriber(FlatMapSubscriber<?, R> parent, int bufferSize) {
+            this.parent = parent;
+            this.bufferSize = bufferSize;
+            this.replenishLimit = bufferSize - (bufferSize >> 2);
+            this.queue = new SpscArrayQueue<>(bufferSize);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (upstream.compareAndSet(null, subscription)) {
+                subscription.request(bufferSize);
+            } else {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onNext(R item) {
+            if (done) {
+                return;
+            }
+            if (!queue.offer(item)) {
+                cancel();
+                onError(new IllegalStateException("Queue is full: inner source ignored backpressure"));
+                return;
+            }
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            parent.innerError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            parent.drain();
+        }
+
+        void consumedOne() {
+            if (++consumed == replenishLimit) {
+                consumed = 0;
+                upstream.get().request(replenishLimit);
+            }
+        }
+
+        void cancel() {
+            Subscription current = upstream.getAndSet(CANCELLED);
+            if (current != null && current != CANCELLED) {
+                current.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.nik.java_2;
+
+import com.nik.java_2.interfaces.BatchObserver;
+import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.ObservableEmitter;
+import com.nik.java_2.interfaces.Observer;
+import com.nik.java_2.internal.DisposableResource;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Observable, объединяющий подряд идущие операторы map, filter и limit в одну стадию.
+ * Вместо отдельного наблюдателя на каждый оператор подписка создаёт одного наблюдателя,
+ * который применяет все функции цепочки к элементу в одном цикле.
+ * Новый оператор, добавленный к FusedObservable, не оборачивает его, а дописывается в цепочку.
+ * Пачки элементов от источника проходят цепочку целиком и передаются дальше тоже пачкой.
+ *
+ * @param <R> тип элементов на выходе цепочки
+ */
+final class FusedObservable<R> extends Observable<R> {
+    static final byte MAP = 0;
+    static final byte FILTER = 1;
+    static final byte LIMIT = 2;
+
+    private final Observable<Object> source;
+    private final byte[] kinds;
+    private final Object[] functions;
+    private final long[] limits;
+
+    private FusedObservable(Observable<Object> source, byte[] kinds, Object[] functions, long[] limits) {
+        super(emitter -> subscribe(source, new FusedObserver<>(emitter, kinds, functions, limits)));
+        this.source = source;
+        this.kinds = kinds;
+        this.functions = functions;
+        this.limits = limits;
+    }
+
+    /**
+     * Добавляет оператор к цепочке upstream, объединяя его с уже слитыми операторами.
+     *
+     * @param upstream Observable, к которому применяется оператор
+     * @param kind вид оператора: {@link #MAP}, {@link #FILTER} или {@link #LIMIT}
+     * @param function Function для map, Predicate для filter, null для limit
+     * @param limit максимальное число элементов для limit
+     */
+    @SuppressWarnings("unchecked")
+    static <R> Observable<R> fuse(Observable<?> upstream, byte kind, Object function, long limit) {
+        if (upstream instanceof FusedObservable<?> fused) {
+            int size = fused.kinds.length;
+            byte[] kinds = Arrays.copyOf(fused.kinds, size + 1);
+            Object[] functions = Arrays.copyOf(fused.functions, size + 1);
+            long[] limits = Arrays.copyOf(fused.limits, size + 1);
+            kinds[size] = kind;
+            functions[size] = function;
+            limits[size] = limit;
+            return new FusedObservable<>(fused.source, kinds, functions, limits);
+        }
+        return new FusedObservable<>((Observable<Object>) upstream, new byte[]{kind}, new Object[]{function}, new long[]{limit});
+    }
+
+    /**
+     * Подписывает наблюдателя цепочки на источник. Элементы синхронного источника
+     * (массива, диапазона, Iterable) обходятся напрямую, без эмиттера источника.
+     */
+    private static void subscribe(Observable<Object> source, FusedObserver<?> observer) {
+        if (source instanceof SyncObservable<Object> sync) {
+            DisposableResource cancelled = new DisposableResource();
+            observer.onSubscribe(cancelled);
+            sync.drain(observer, cancelled::isDisposed);
+        } else {
+            source.subscribe(observer);
+        }
+    }
+
+    private static final class FusedObserver<R> implements BatchObserver<Object> {
+        private static final Object SKIP = new Object();
+
+        private final ObservableEmitter<R> downstream;
+        private final byte[] kinds;
+        private final Object[] functions;
+        private final long[] limits;
+        private final long[] counts;
+        private Disposable upstream;
+        private Object[] batch;
+        private boolean limitReached;
+        private boolean done;
+
+        FusedObserver(ObservableEmitter<R> downstream, byte[] kinds, Object[] functions, long[] limits) {
+            this.downstream = downstream;
+            this.kinds = kinds;
+            this.functions = functions;
+            this.limits = limits;
+            this.counts = hasLimit(kinds) ? new long[kinds.length] : null;
+        }
+
+        private static boolean hasLimit(byte[] kinds) {
+            for (byte kind : kinds) {
+                if (kind == LIMIT) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream = d;
+            downstream.setDisposable(d);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onNext(Object value) {
+            if (done) {
+                return;
+            }
+            Object current;
+            try {
+                current = apply(value);
+            } catch (Throwable throwable) {
+                onError(throwable);
+                return;
+            }
+            if (current != SKIP) {
+                downstream.onNext((R) current);
+            }
+            if (limitReached) {
+                complete();
+            }
+        }
+
+        /**
+         * Пропускает пачку через всю цепочку и передаёт дальше одной пачкой.
+         * Результаты складываются в переиспользуемый массив этого наблюдателя.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onNextBatch(Object[] items, int count) {
+            if (done) {
+                return;
+            }
+            Object[] out = batch;
+            if (out == null || out.length < count) {
+                out = new Object[count];
+                batch = out;
+            }
+            int size = 0;
+            Throwable failure = null;
+            for (int i = 0; i < count && !limitReached; i++) {
+                Object current;
+                try {
+                    current = apply(items[i]);
+                } catch (Throwable throwable) {
+                    failure = throwable;
+                    break;
+                }
+                if (current != SKIP) {
+                    out[size++] = current;
+                }
+            }
+            if (size != 0) {
+                downstream.onNextBatch(out, size);
+                Arrays.fill(out, 0, size, null);
+            }
+            if (failure != null) {
+                onError(failure);
+            } else if (limitReached) {
+                complete();
+            }
+        }
+
+        /**
+         * Применяет цепочку к элементу.
+         *
+         * @return результат или {@link #SKIP}, если элемент отброшен фильтром
+         */
+        @SuppressWarnings("unchecked")
+        private Object apply(Object value) {
+            Object current = value;
+            for (int i = 0; i < kinds.length; i++) {
+                switch (kinds[i]) {
+                    case MAP:
+                        current = ((Function<Object, Object>) functions[i]).apply(current);
+                        break;
+                    case FILTER:
+                        if (!((Predicate<Object>) functions[i]).test(current)) {
+                            return SKIP;
+                        }
+                        break;
+                    default:
+                        if (++counts[i] == limits[i]) {
+                            limitReached = true;
+                        }
+                        break;
+                }
+            }
+            return current;
+        }
+
+        private void complete() {
+            done = true;
+            upstream.dispose();
+            downstream.onComplete();
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(error);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+    }
+}
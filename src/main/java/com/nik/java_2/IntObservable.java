@@ -0,0 +1,480 @@
+package com.nik.java_2;
+
+import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.IntEmitter;
+import com.nik.java_2.interfaces.IntObserver;
+import com.nik.java_2.internal.DisposableResource;
+
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Поток целых чисел int без упаковки значений.
+ * Элементы передаются наблюдателю через {@link IntObserver#onNext(int)},
+ * поэтому цепочки map/filter/limit не создают объектов на каждый элемент.
+ */
+public class IntObservable {
+
+    /**
+     * Интерфейс для подписки на источник данных.
+     */
+    public interface OnSubscribe {
+        void subscribe(IntEmitter emitter);
+    }
+
+    private final OnSubscribe subscriptionAction;
+
+    /**
+     * Конструктор IntObservable.
+     *
+     * @param subscriptionAction действие, выполняемое при подписке
+     */
+    public IntObservable(OnSubscribe subscriptionAction) {
+        this.subscriptionAction = subscriptionAction;
+    }
+
+    /**
+     * Создаёт новый IntObservable из источника данных.
+     *
+     * @param source источник данных
+     * @return новый экземпляр IntObservable
+     */
+    public static IntObservable create(OnSubscribe source) {
+        return new IntObservable(source);
+    }
+
+    /**
+     * Создаёт поток из заданных значений.
+     *
+     * @param values значения потока
+     * @return новый IntObservable
+     */
+    public static IntObservable of(int... values) {
+        return IntObservable.create(emitter -> {
+            for (int i = 0; i < values.length && !emitter.isDisposed(); i++) {
+                emitter.onNext(values[i]);
+            }
+            emitter.onComplete();
+        });
+    }
+
+    /**
+     * Создаёт поток последовательных целых чисел.
+     *
+     * @param start первое число последовательности
+     * @param count количество чисел
+     * @return новый IntObservable
+     */
+    public static IntObservable range(int start, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count >= 0 required but it was " + count);
+        }
+        return IntObservable.create(emitter -> {
+            int end = start + count;
+            for (int i = start; i != end && !emitter.isDisposed(); i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        });
+    }
+
+    /**
+     * Подписывает наблюдателя на этот IntObservable.
+     *
+     * @param observer наблюдатель, принимающий элементы потока
+     * @return Disposable-объект для отмены подписки
+     */
+    public Disposable subscribe(IntObserver observer) {
+        CreateEmitter emitter = new CreateEmitter(observer);
+        observer.onSubscribe(emitter);
+        subscriptionAction.subscribe(emitter);
+        return emitter;
+    }
+
+    /**
+     * Осуществляет трансформацию элементов потока с помощью функции mapper.
+     *
+     * @param mapper функция для трансформации элементов
+     * @return новый IntObservable с трансформированными элементами
+     */
+    public IntObservable map(IntUnaryOperator mapper) {
+        return IntObservable.create(observer ->
+                this.subscribe(new IntObserver() {
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        observer.setDisposable(d);
+                    }
+
+                    @Override
+                    public void onNext(int value) {
+                        int transformedValue;
+                        try {
+                            transformedValue = mapper.applyAsInt(value);
+                        } catch (Throwable throwable) {
+                            observer.onError(throwable);
+                            return;
+                        }
+                        observer.onNext(transformedValue);
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        observer.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Фильтрует элементы потока согласно заданному предикату.
+     *
+     * @param condition условие фильтрации элементов
+     * @return новый IntObservable, содержащий только элементы, удовлетворяющие предикату
+     */
+    public IntObservable filter(IntPredicate condition) {
+        return IntObservable.create(observer ->
+                this.subscribe(new IntObserver() {
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        observer.setDisposable(d);
+                    }
+
+                    @Override
+                    public void onNext(int value) {
+                        boolean passed;
+                        try {
+                            passed = condition.test(value);
+                        } catch (Throwable throwable) {
+                            observer.onError(throwable);
+                            return;
+                        }
+                        if (passed) {
+                            observer.onNext(value);
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        observer.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Ограничивает количество элементов потока.
+     * После получения maxItems элементов подписка на источник отменяется.
+     *
+     * @param maxItems максимальное количество элементов
+     * @return новый IntObservable, ограниченный заданным количеством элементов
+     */
+    public IntObservable limit(long maxItems) {
+        return IntObservable.create(observer ->
+                this.subscribe(new IntObserver() {
+                    private Disposable upstream;
+                    private long emittedCount;
+                    private boolean done;
+
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        upstream = d;
+                        observer.setDisposable(d);
+                        if (maxItems <= 0) {
+                            done = true;
+                            d.dispose();
+                            observer.onComplete();
+                        }
+                    }
+
+                    @Override
+                    public void onNext(int value) {
+                        if (done) {
+                            return;
+                        }
+                        observer.onNext(value);
+                        if (++emittedCount == maxItems) {
+                            done = true;
+                            upstream.dispose();
+                            observer.onComplete();
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        if (done) {
+                            return;
+                        }
+                        done = true;
+                        observer.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        if (done) {
+                            return;
+                        }
+                        done = true;
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Суммирует элементы потока.
+     *
+     * @return IntObservable из одного элемента — суммы (0 для пустого потока)
+     */
+    public IntObservable sum() {
+        return IntObservable.create(observer ->
+                this.subscribe(new IntObserver() {
+                    private int sum;
+
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        observer.setDisposable(d);
+                    }
+
+                    @Override
+                    public void onNext(int value) {
+                        sum += value;
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        observer.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        observer.onNext(sum);
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Находит минимальный элемент потока.
+     *
+     * @return IntObservable из одного элемента или пустой, если источник пуст
+     */
+    public IntObservable min() {
+        return reduce(true);
+    }
+
+    /**
+     * Находит максимальный элемент потока.
+     *
+     * @return IntObservable из одного элемента или пустой, если источник пуст
+     */
+    public IntObservable max() {
+        return reduce(false);
+    }
+
+    private IntObservable reduce(boolean minimum) {
+        return IntObservable.create(observer ->
+                this.subscribe(new IntObserver() {
+                    private int result;
+                    private boolean hasValue;
+
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        observer.setDisposable(d);
+                    }
+
+                    @Override
+                    public void onNext(int value) {
+                        if (!hasValue) {
+                            hasValue = true;
+                            result = value;
+                        } else {
+                            result = minimum ? Math.min(result, value) : Math.max(result, value);
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        observer.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        if (hasValue) {
+                            observer.onNext(result);
+                        }
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Вычисляет среднее арифметическое элементов потока.
+     *
+     * @return DoubleObservable из одного элемента или пустой, если источник пуст
+     */
+    public DoubleObservable average() {
+        return DoubleObservable.create(observer ->
+                this.subscribe(new IntObserver() {
+                    private long sum;
+                    private long count;
+
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        observer.setDisposable(d);
+                    }
+
+                    @Override
+                    public void onNext(int value) {
+                        sum += value;
+                        count++;
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        observer.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        if (count != 0) {
+                            observer.onNext((double) sum / count);
+                        }
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Преобразует поток в LongObservable без упаковки значений.
+     *
+     * @return LongObservable с теми же значениями
+     */
+    public LongObservable asLongObservable() {
+        return LongObservable.create(observer ->
+                this.subscribe(new IntObserver() {
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        observer.setDisposable(d);
+                    }
+
+                    @Override
+                    public void onNext(int value) {
+                        observer.onNext(value);
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        observer.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Преобразует элементы потока в объекты.
+     *
+     * @param mapper функция преобразования
+     * @param <R> тип элементов результирующего потока
+     * @return Observable с преобразованными элементами
+     */
+    public <R> Observable<R> mapToObj(IntFunction<R> mapper) {
+        return Observable.create(observer ->
+                this.subscribe(new IntObserver() {
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        observer.setDisposable(d);
+                    }
+
+                    @Override
+                    public void onNext(int value) {
+                        R transformedValue;
+                        try {
+                            transformedValue = mapper.apply(value);
+                        } catch (Throwable throwable) {
+                            observer.onError(throwable);
+                            return;
+                        }
+                        observer.onNext(transformedValue);
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        observer.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Упаковывает элементы потока в объекты Integer.
+     *
+     * @return Observable с упакованными элементами
+     */
+    public Observable<Integer> boxed() {
+        return mapToObj(Integer::valueOf);
+    }
+
+    private static final class CreateEmitter extends DisposableResource implements IntEmitter {
+        private final IntObserver observer;
+
+        CreateEmitter(IntObserver observer) {
+            this.observer = observer;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            setDisposable(d);
+        }
+
+        @Override
+        public void onNext(int value) {
+            if (!isDisposed()) observer.onNext(value);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            if (!isDisposed()) {
+                try {
+                    observer.onError(error);
+                } finally {
+                    dispose();
+                }
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!isDisposed()) {
+                try {
+                    observer.onComplete();
+                } finally {
+                    dispose();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,449 @@
+package com.nik.java_2;
+
+import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.LongEmitter;
+import com.nik.java_2.interfaces.LongObserver;
+import com.nik.java_2.internal.DisposableResource;
+
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Поток целых чисел long без упаковки значений.
+ * Элементы передаются наблюдателю через {@link LongObserver#onNext(long)},
+ * поэтому цепочки map/filter/limit не создают объектов на каждый элемент.
+ */
+public class LongObservable {
+
+    /**
+     * Интерфейс для подписки на источник данных.
+     */
+    public interface OnSubscribe {
+        void subscribe(LongEmitter emitter);
+    }
+
+    private final OnSubscribe subscriptionAction;
+
+    /**
+     * Конструктор LongObservable.
+     *
+     * @param subscriptionAction действие, выполняемое при подписке
+     */
+    public LongObservable(OnSubscribe subscriptionAction) {
+        this.subscriptionAction = subscriptionAction;
+    }
+
+    /**
+     * Создаёт новый LongObservable из источника данных.
+     *
+     * @param source источник данных
+     * @return новый экземпляр LongObservable
+     */
+    public static LongObservable create(OnSubscribe source) {
+        return new LongObservable(source);
+    }
+
+    /**
+     * Создаёт поток из заданных значений.
+     *
+     * @param values значения потока
+     * @return новый LongObservable
+     */
+    public static LongObservable of(long... values) {
+        return LongObservable.create(emitter -> {
+            for (int i = 0; i < values.length && !emitter.isDisposed(); i++) {
+                emitter.onNext(values[i]);
+            }
+            emitter.onComplete();
+        });
+    }
+
+    /**
+     * Создаёт поток последовательных целых чисел.
+     *
+     * @param start первое число последовательности
+     * @param count количество чисел
+     * @return новый LongObservable
+     */
+    public static LongObservable range(long start, long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count >= 0 required but it was " + count);
+        }
+        return LongObservable.create(emitter -> {
+            long end = start + count;
+            for (long i = start; i != end && !emitter.isDisposed(); i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        });
+    }
+
+    /**
+     * Подписывает наблюдателя на этот LongObservable.
+     *
+     * @param observer наблюдатель, принимающий элементы потока
+     * @return Disposable-объект для отмены подписки
+     */
+    public Disposable subscribe(LongObserver observer) {
+        CreateEmitter emitter = new CreateEmitter(observer);
+        observer.onSubscribe(emitter);
+        subscriptionAction.subscribe(emitter);
+        return emitter;
+    }
+
+    /**
+     * Осуществляет трансформацию элементов потока с помощью функции mapper.
+     *
+     * @param mapper функция для трансформации элементов
+     * @return новый LongObservable с трансформированными элементами
+     */
+    public LongObservable map(LongUnaryOperator mapper) {
+        return LongObservable.create(observer ->
+                this.subscribe(new LongObserver() {
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        observer.setDisposable(d);
+                    }
+
+                    @Override
+                    public void onNext(long value) {
+                        long transformedValue;
+                        try {
+                            transformedValue = mapper.applyAsLong(value);
+                        } catch (Throwable throwable) {
+                            observer.onError(throwable);
+                            return;
+                        }
+                        observer.onNext(transformedValue);
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        observer.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Фильтрует элементы потока согласно заданному предикату.
+     *
+     * @param condition условие фильтрации элементов
+     * @return новый LongObservable, содержащий только элементы, удовлетворяющие предикату
+     */
+    public LongObservable filter(LongPredicate condition) {
+        return LongObservable.create(observer ->
+                this.subscribe(new LongObserver() {
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        observer.setDisposable(d);
+                    }
+
+                    @Override
+                    public void onNext(long value) {
+                        boolean passed;
+                        try {
+                            passed = condition.test(value);
+                        } catch (Throwable throwable) {
+                            observer.onError(throwable);
+                            return;
+                        }
+                        if (passed) {
+                            observer.onNext(value);
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        observer.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Ограничивает количество элементов потока.
+     * После получения maxItems элементов подписка на источник отменяется.
+     *
+     * @param maxItems максимальное количество элементов
+     * @return новый LongObservable, ограниченный заданным количеством элементов
+     */
+    public LongObservable limit(long maxItems) {
+        return LongObservable.create(observer ->
+                this.subscribe(new LongObserver() {
+                    private Disposable upstream;
+                    private long emittedCount;
+                    private boolean done;
+
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        upstream = d;
+                        observer.setDisposable(d);
+                        if (maxItems <= 0) {
+                            done = true;
+                            d.dispose();
+                            observer.onComplete();
+                        }
+                    }
+
+                    @Override
+                    public void onNext(long value) {
+                        if (done) {
+                            return;
+                        }
+                        observer.onNext(value);
+                        if (++emittedCount == maxItems) {
+                            done = true;
+                            upstream.dispose();
+                            observer.onComplete();
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        if (done) {
+                            return;
+                        }
+                        done = true;
+                        observer.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        if (done) {
+                            return;
+                        }
+                        done = true;
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Суммирует элементы потока.
+     *
+     * @return LongObservable из одного элемента — суммы (0 для пустого потока)
+     */
+    public LongObservable sum() {
+        return LongObservable.create(observer ->
+                this.subscribe(new LongObserver() {
+                    private long sum;
+
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        observer.setDisposable(d);
+                    }
+
+                    @Override
+                    public void onNext(long value) {
+                        sum += value;
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        observer.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        observer.onNext(sum);
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Находит минимальный элемент потока.
+     *
+     * @return LongObservable из одного элемента или пустой, если источник пуст
+     */
+    public LongObservable min() {
+        return reduce(true);
+    }
+
+    /**
+     * Находит максимальный элемент потока.
+     *
+     * @return LongObservable из одного элемента или пустой, если источник пуст
+     */
+    public LongObservable max() {
+        return reduce(false);
+    }
+
+    private LongObservable reduce(boolean minimum) {
+        return LongObservable.create(observer ->
+                this.subscribe(new LongObserver() {
+                    private long result;
+                    private boolean hasValue;
+
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        observer.setDisposable(d);
+                    }
+
+                    @Override
+                    public void onNext(long value) {
+                        if (!hasValue) {
+                            hasValue = true;
+                            result = value;
+                        } else {
+                            result = minimum ? Math.min(result, value) : Math.max(result, value);
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        observer.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        if (hasValue) {
+                            observer.onNext(result);
+                        }
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Вычисляет среднее арифметическое элементов потока.
+     *
+     * @return DoubleObservable из одного элемента или пустой, если источник пуст
+     */
+    public DoubleObservable average() {
+        return DoubleObservable.create(observer ->
+                this.subscribe(new LongObserver() {
+                    private long sum;
+                    private long count;
+
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        observer.setDisposable(d);
+                    }
+
+                    @Override
+                    public void onNext(long value) {
+                        sum += value;
+                        count++;
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        observer.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        if (count != 0) {
+                            observer.onNext((double) sum / count);
+                        }
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Преобразует элементы потока в объекты.
+     *
+     * @param mapper функция преобразования
+     * @param <R> тип элементов результирующего потока
+     * @return Observable с преобразованными элементами
+     */
+    public <R> Observable<R> mapToObj(LongFunction<R> mapper) {
+        return Observable.create(observer ->
+                this.subscribe(new LongObserver() {
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        observer.setDisposable(d);
+                    }
+
+                    @Override
+                    public void onNext(long value) {
+                        R transformedValue;
+                        try {
+                            transformedValue = mapper.apply(value);
+                        } catch (Throwable throwable) {
+                            observer.onError(throwable);
+                            return;
+                        }
+                        observer.onNext(transformedValue);
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        observer.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+
+    /**
+     * Упаковывает элементы потока в объекты Long.
+     *
+     * @return Observable с упакованными элементами
+     */
+    public Observable<Long> boxed() {
+        return mapToObj(Long::valueOf);
+    }
+
+    private static final class CreateEmitter extends DisposableResource implements LongEmitter {
+        private final LongObserver observer;
+
+        CreateEmitter(LongObserver observer) {
+            this.observer = observer;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            setDisposable(d);
+        }
+
+        @Override
+        public void onNext(long value) {
+            if (!isDisposed()) observer.onNext(value);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            if (!isDisposed()) {
+                try {
+                    observer.onError(error);
+                } finally {
+                    dispose();
+                }
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!isDisposed()) {
+                try {
+                    observer.onComplete();
+                } finally {
+                    dispose();
+                }
+            }
+        }
+    }
+}
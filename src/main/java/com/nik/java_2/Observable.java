@@ -1,12 +1,31 @@
 package com.nik.java_2;
 
+import com.nik.java_2.interfaces.BatchObserver;
 import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.ObservableEmitter;
 import com.nik.java_2.interfaces.Observer;
 import com.nik.java_2.interfaces.Scheduler;
+import com.nik.java_2.internal.CompositeDisposable;
+import com.nik.java_2.internal.DisposableResource;
+import com.nik.java_2.internal.SpscLinkedArrayQueue;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Класс Observable для работы с потоком данных в реактивном стиле.
@@ -21,7 +40,7 @@ public class Observable<T> {
      * @param <T> тип данных, которые будут переданы подписчику
      */
     public interface OnSubscribe<T> {
-        void subscribe(Observer<T> observer);
+        void subscribe(ObservableEmitter<T> emitter);
     }
 
     private final OnSubscribe<T> subscriptionAction;
@@ -35,6 +54,14 @@ public class Observable<T> {
         this.subscriptionAction = subscriptionAction;
     }
 
+    /**
+     * Конструктор для наследников, которые подключают наблюдателей сами
+     * через {@link #subscribeActual(ObservableEmitter)}.
+     */
+    protected Observable() {
+        this.subscriptionAction = null;
+    }
+
     /**
      * Создаёт новый Observable из источника данных.
      *
@@ -47,64 +74,157 @@ public class Observable<T> {
     }
 
     /**
-     * Подписывает наблюдателя на этот Observable.
+     * Создаёт Observable из одного элемента.
      *
-     * @param observer наблюдатель, принимающий элементы потока
-     * @return Disposable-объект для отмены подписки
+     * @param value элемент
+     * @param <T> тип элемента
+     * @return Observable, выдающий value и завершающийся
      */
-    public Disposable subscribe(Observer<T> observer) {
-        AtomicBoolean disposed = new AtomicBoolean(false);
+    public static <T> Observable<T> just(T value) {
+        return new SyncObservable.Just<>(value);
+    }
 
-        Observer<T> safeObserver = new Observer<T>() {
-            @Override
-            public void onNext(T value) {
-                if (!disposed.get()) observer.onNext(value);
-            }
+    /**
+     * Создаёт Observable из элементов массива. Массив копируется, а null среди элементов
+     * отклоняется сразу, как и в {@link #just(Object)}.
+     *
+     * @param items элементы
+     * @param <T> тип элементов
+     * @return Observable, выдающий элементы массива по порядку
+     */
+    @SafeVarargs
+    public static <T> Observable<T> fromArray(T... items) {
+        if (items.length == 0) {
+            return empty();
+        }
+        if (items.length == 1) {
+            return just(items[0]);
+        }
+        Object[] copy = new Object[items.length];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = items[i];
+        }
+        return new SyncObservable.FromArray<>(copy);
+    }
 
-            @Override
-            public void onError(Throwable error) {
-                if (!disposed.get()) observer.onError(error);
-            }
+    /**
+     * Создаёт Observable из элементов Iterable.
+     *
+     * @param iterable источник элементов
+     * @param <T> тип элементов
+     * @return Observable, выдающий элементы iterable по порядку
+     */
+    public static <T> Observable<T> fromIterable(Iterable<? extends T> iterable) {
+        return new SyncObservable.FromIterable<>(iterable);
+    }
 
-            @Override
-            public void onComplete() {
-                if (!disposed.get()) observer.onComplete();
-            }
-        };
+    /**
+     * Создаёт Observable из последовательности целых чисел.
+     *
+     * @param start первое число
+     * @param count количество чисел
+     * @return Observable, выдающий числа от start до start + count - 1
+     */
+    public static Observable<Integer> range(int start, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count >= 0 required but it was " + count);
+        }
+        if (count == 0) {
+            return empty();
+        }
+        return new SyncObservable.Range(start, count);
+    }
 
-        subscriptionAction.subscribe(safeObserver);
+    /**
+     * @param <T> тип элементов
+     * @return Observable, который сразу завершается без элементов
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Observable<T> empty() {
+        return (Observable<T>) SyncObservable.Empty.INSTANCE;
+    }
 
-        return new Disposable() {
-            @Override
-            public void dispose() {
-                disposed.set(true);
-            }
+    /**
+     * @param error ошибка
+     * @param <T> тип элементов
+     * @return Observable, который сразу завершается с ошибкой
+     */
+    public static <T> Observable<T> error(Throwable error) {
+        return Observable.create(emitter -> emitter.onError(error));
+    }
 
-            @Override
-            public boolean isDisposed() {
-                return disposed.get();
-            }
-        };
+    /**
+     * @param <T> тип элементов
+     * @return Observable, который не выдаёт никаких событий
+     */
+    public static <T> Observable<T> never() {
+        return Observable.create(emitter -> {
+        });
+    }
+
+    /**
+     * Подписывает наблюдателя на этот Observable.
+     * Отмена возвращённого Disposable передаётся вверх по цепочке операторов до источника,
+     * который может проверить её через {@link ObservableEmitter#isDisposed()}.
+     *
+     * @param observer наблюдатель, принимающий элементы потока
+     * @return Disposable-объект для отмены подписки
+     */
+    public Disposable subscribe(Observer<T> observer) {
+        CreateEmitter<T> emitter = new CreateEmitter<>(observer);
+        observer.onSubscribe(emitter);
+        subscribeActual(emitter);
+        return emitter;
+    }
+
+    /**
+     * Подключает эмиттер новой подписки к источнику. По умолчанию запускает действие,
+     * переданное в конструктор; наследники, раздающие один источник многим наблюдателям,
+     * переопределяют метод и лишь регистрируют эмиттер.
+     *
+     * @param emitter эмиттер новой подписки
+     */
+    protected void subscribeActual(ObservableEmitter<T> emitter) {
+        subscriptionAction.subscribe(emitter);
     }
 
     /**
      * Осуществляет трансформацию элементов потока с помощью функции mapper.
+     * Подряд идущие map, filter и limit объединяются в одну стадию
+     * и применяются к элементу в одном цикле, без промежуточных наблюдателей.
      *
      * @param mapper функция для трансформации элементов
      * @param <R> новый тип элементов после применения функции mapper
      * @return новый Observable с трансформированными элементами
      */
     public <R> Observable<R> map(Function<T, R> mapper) {
-        return Observable.create(observer ->
+        return FusedObservable.fuse(this, FusedObservable.MAP, mapper, 0);
+    }
+
+    /**
+     * Преобразует элементы потока в значения int без упаковки.
+     *
+     * @param mapper функция для трансформации элементов
+     * @return IntObservable с трансформированными элементами
+     */
+    public IntObservable mapToInt(ToIntFunction<T> mapper) {
+        return IntObservable.create(observer ->
                 this.subscribe(new Observer<T>() {
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        observer.setDisposable(d);
+                    }
+
                     @Override
                     public void onNext(T value) {
+                        int transformedValue;
                         try {
-                            R transformedValue = mapper.apply(value);
-                            observer.onNext(transformedValue);
+                            transformedValue = mapper.applyAsInt(value);
                         } catch (Throwable throwable) {
                             observer.onError(throwable);
+                            return;
                         }
+                        observer.onNext(transformedValue);
                     }
 
                     @Override
@@ -121,22 +241,29 @@ public class Observable<T> {
     }
 
     /**
-     * Ограничивает количество элементов, передаваемых подписчику потока.
-     * Сделал дополнительно, без задания
-     * @param maxItems максимальное количество элементов
-     * @return новый Observable, ограниченный заданным количеством элементов
+     * Преобразует элементы потока в значения long без упаковки.
+     *
+     * @param mapper функция для трансформации элементов
+     * @return LongObservable с трансформированными элементами
      */
-    public Observable<T> limit(int maxItems) {
-        return Observable.create(observer ->
+    public LongObservable mapToLong(ToLongFunction<T> mapper) {
+        return LongObservable.create(observer ->
                 this.subscribe(new Observer<T>() {
-                    private int emittedCount = 0;
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        observer.setDisposable(d);
+                    }
 
                     @Override
                     public void onNext(T value) {
-                        if (emittedCount < maxItems) {
-                            observer.onNext(value);
+                        long transformedValue;
+                        try {
+                            transformedValue = mapper.applyAsLong(value);
+                        } catch (Throwable throwable) {
+                            observer.onError(throwable);
+                            return;
                         }
-                        emittedCount++;
+                        observer.onNext(transformedValue);
                     }
 
                     @Override
@@ -153,23 +280,29 @@ public class Observable<T> {
     }
 
     /**
-     * Фильтрует элементы потока согласно заданному предикату.
+     * Преобразует элементы потока в значения double без упаковки.
      *
-     * @param condition условие фильтрации элементов
-     * @return новый Observable, содержащий только элементы, удовлетворяющие предикату
+     * @param mapper функция для трансформации элементов
+     * @return DoubleObservable с трансформированными элементами
      */
-    public Observable<T> filter(Predicate<T> condition) {
-        return Observable.create(observer ->
-                this.subscribe(new Observer<>() {
+    public DoubleObservable mapToDouble(ToDoubleFunction<T> mapper) {
+        return DoubleObservable.create(observer ->
+                this.subscribe(new Observer<T>() {
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        observer.setDisposable(d);
+                    }
+
                     @Override
                     public void onNext(T value) {
+                        double transformedValue;
                         try {
-                            if (condition.test(value)) {
-                                observer.onNext(value);
-                            }
+                            transformedValue = mapper.applyAsDouble(value);
                         } catch (Throwable throwable) {
                             observer.onError(throwable);
+                            return;
                         }
+                        observer.onNext(transformedValue);
                     }
 
                     @Override
@@ -185,51 +318,150 @@ public class Observable<T> {
         );
     }
 
+    /**
+     * Ограничивает количество элементов, передаваемых подписчику потока.
+     * Сделал дополнительно, без задания.
+     * После получения maxItems элементов подписка на источник отменяется.
+     * @param maxItems максимальное количество элементов
+     * @return новый Observable, ограниченный заданным количеством элементов
+     */
+    public Observable<T> limit(int maxItems) {
+        if (maxItems > 0) {
+            return FusedObservable.fuse(this, FusedObservable.LIMIT, null, maxItems);
+        }
+        return Observable.create(observer -> observer.onComplete());
+    }
+
+    /**
+     * Фильтрует элементы потока согласно заданному предикату.
+     *
+     * @param condition условие фильтрации элементов
+     * @return новый Observable, содержащий только элементы, удовлетворяющие предикату
+     */
+    public Observable<T> filter(Predicate<T> condition) {
+        return FusedObservable.fuse(this, FusedObservable.FILTER, condition, 0);
+    }
+
     /**
      * Преобразует каждый элемент в новый Observable и объединяет результаты.
+     * Поток завершается, только когда завершились и источник, и все внутренние Observable.
      *
      * @param mapper функция, преобразующая элемент в Observable
      * @param <R> тип элементов результирующего потока
      * @return новый Observable после преобразования и объединения элементов
      */
     public <R> Observable<R> flatMap(Function<T, Observable<R>> mapper) {
+        return flatMap(mapper, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Преобразует каждый элемент в новый Observable и объединяет результаты,
+     * ограничивая число одновременно активных внутренних Observable.
+     * Элементы источника сверх лимита ждут в очереди, пока не завершится один из активных.
+     * События внутренних Observable из разных потоков передаются наблюдателю последовательно.
+     * Значение внутреннего {@link #just(Object)} передаётся сразу, без подписки на него,
+     * если лимит не исчерпан и очередь пуста, иначе ждёт в очереди как любой другой;
+     * {@link #empty()} пропускается.
+     *
+     * @param mapper функция, преобразующая элемент в Observable
+     * @param maxConcurrency максимальное число одновременно активных внутренних Observable
+     * @param <R> тип элементов результирующего потока
+     * @return новый Observable после преобразования и объединения элементов
+     */
+    public <R> Observable<R> flatMap(Function<T, Observable<R>> mapper, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency > 0 required but it was " + maxConcurrency);
+        }
         return Observable.create(observer ->
-                this.subscribe(new Observer<T>() {
-                    @Override
-                    public void onNext(T value) {
-                        try {
-                            Observable<R> innerObservable = mapper.apply(value);
-                            innerObservable.subscribe(new Observer<R>() {
-                                @Override
-                                public void onNext(R innerValue) {
-                                    observer.onNext(innerValue);
-                                }
-
-                                @Override
-                                public void onError(Throwable error) {
-                                    observer.onError(error);
-                                }
-
-                                @Override
-                                public void onComplete() {
-                                    // intentionally empty
-                                }
-                            });
-                        } catch (Throwable throwable) {
-                            observer.onError(throwable);
-                        }
-                    }
+                this.subscribe(new FlatMapObserver<>(observer, mapper, maxConcurrency))
+        );
+    }
 
-                    @Override
-                    public void onError(Throwable error) {
-                        observer.onError(error);
-                    }
+    /**
+     * Собирает элементы в списки по count штук.
+     * Последний список может быть короче, если источник завершился раньше.
+     *
+     * @param count размер списка
+     * @return Observable со списками элементов
+     */
+    public Observable<List<T>> buffer(int count) {
+        return buffer(count, count);
+    }
 
-                    @Override
-                    public void onComplete() {
-                        observer.onComplete();
-                    }
-                })
+    /**
+     * Собирает элементы в списки по count штук, начиная новый список через каждые skip элементов.
+     * При skip &lt; count списки перекрываются (скользящее окно), при skip &gt; count
+     * часть элементов между списками пропускается.
+     *
+     * @param count размер списка
+     * @param skip через сколько элементов начинается следующий список
+     * @return Observable со списками элементов
+     */
+    public Observable<List<T>> buffer(int count, int skip) {
+        return buffer(count, skip, () -> new ArrayList<>(count));
+    }
+
+    /**
+     * То же, что {@link #buffer(int, int)}, но списки берутся из bufferSupplier.
+     * Поставщик может выдавать списки из пула, а получатель — возвращать их в пул
+     * после обработки, чтобы при больших объёмах не создавать новый список на каждую пачку.
+     *
+     * @param count размер списка
+     * @param skip через сколько элементов начинается следующий список
+     * @param bufferSupplier поставщик пустых списков
+     * @return Observable со списками элементов
+     */
+    public Observable<List<T>> buffer(int count, int skip, Supplier<List<T>> bufferSupplier) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count > 0 required but it was " + count);
+        }
+        if (skip <= 0) {
+            throw new IllegalArgumentException("skip > 0 required but it was " + skip);
+        }
+        if (count == skip) {
+            return Observable.create(observer ->
+                    this.subscribe(new BufferExactObserver<>(observer, count, bufferSupplier))
+            );
+        }
+        return Observable.create(observer ->
+                this.subscribe(new BufferSkipObserver<>(observer, count, skip, bufferSupplier))
+        );
+    }
+
+    /**
+     * Собирает элементы в списки, которые выдаются раз в timespan или при достижении maxSize элементов.
+     * Пустые списки по таймеру не выдаются. Оставшиеся элементы выдаются при завершении источника.
+     *
+     * @param timespan период выдачи списков
+     * @param unit единица измерения timespan
+     * @param maxSize максимальный размер списка
+     * @param scheduler планировщик, на котором срабатывает таймер
+     * @return Observable со списками элементов
+     */
+    public Observable<List<T>> buffer(long timespan, TimeUnit unit, int maxSize, Scheduler scheduler) {
+        return buffer(timespan, unit, maxSize, scheduler, () -> new ArrayList<>(maxSize));
+    }
+
+    /**
+     * То же, что {@link #buffer(long, TimeUnit, int, Scheduler)}, но списки берутся из bufferSupplier.
+     *
+     * @param timespan период выдачи списков
+     * @param unit единица измерения timespan
+     * @param maxSize максимальный размер списка
+     * @param scheduler планировщик, на котором срабатывает таймер
+     * @param bufferSupplier поставщик пустых списков
+     * @return Observable со списками элементов
+     */
+    public Observable<List<T>> buffer(long timespan, TimeUnit unit, int maxSize, Scheduler scheduler,
+                                      Supplier<List<T>> bufferSupplier) {
+        if (timespan <= 0) {
+            throw new IllegalArgumentException("timespan > 0 required but it was " + timespan);
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize > 0 required but it was " + maxSize);
+        }
+        return Observable.create(observer ->
+                this.subscribe(new BufferTimedObserver<>(observer, timespan, unit, maxSize, scheduler, bufferSupplier))
         );
     }
 
@@ -240,35 +472,872 @@ public class Observable<T> {
      * @return Observable, подписка на который будет выполняться на заданном Scheduler
      */
     public Observable<T> subscribeOn(Scheduler scheduler) {
-        return Observable.create(observer ->
-                scheduler.execute(() -> Observable.this.subscribe(observer))
-        );
+        return Observable.create(observer -> {
+            Scheduler.Worker worker = scheduler.createWorker();
+            observer.setDisposable(worker);
+            worker.execute(() -> {
+                if (!observer.isDisposed()) {
+                    Observable.this.subscribe(observer);
+                }
+            });
+        });
     }
 
     /**
      * Указывает Scheduler, на котором будут обрабатываться вызовы Observer.
+     * События складываются в очередь подписки, а на Worker планировщика планируется один цикл
+     * разбора очереди, который выдаёт накопленные элементы пачкой и в исходном порядке,
+     * поэтому оператор безопасен и для многопоточных планировщиков.
+     * Если наблюдатель реализует {@link BatchObserver}, накопленные элементы передаются ему
+     * одним вызовом onNextBatch, а пачка от источника ставится в очередь за один запуск цикла.
      *
      * @param scheduler планировщик, на котором будут обрабатываться события
      * @return Observable, события которого будут обрабатываться на заданном Scheduler
      */
     public Observable<T> observeOn(Scheduler scheduler) {
         return Observable.create(observer ->
-                this.subscribe(new Observer<T>() {
-                    @Override
-                    public void onNext(T value) {
-                        scheduler.execute(() -> observer.onNext(value));
+                this.subscribe(new ObserveOnObserver<>(observer, scheduler))
+        );
+    }
+
+    /**
+     * Распределяет элементы по заданному числу рельс для параллельной обработки.
+     * Обработка переводится на потоки планировщика через {@link ParallelObservable#runOn(Scheduler)},
+     * а результаты объединяются обратно через {@link ParallelObservable#sequential()}.
+     *
+     * @param rails число рельс, обычно равное числу ядер процессора
+     * @return ParallelObservable с элементами этого Observable
+     */
+    public ParallelObservable<T> parallel(int rails) {
+        return ParallelObservable.from(this, rails);
+    }
+
+    /**
+     * Распределяет элементы по n последовательным дорожкам по хэшу ключа.
+     * Элементы с одинаковым ключом попадают в одну дорожку и обрабатываются строго по порядку
+     * на её Worker, а разные дорожки работают параллельно. Результаты можно объединить через
+     * {@link ParallelObservable#sequential()} или получать по дорожкам через
+     * {@link ParallelObservable#subscribe(java.util.List)}.
+     *
+     * @param n число дорожек
+     * @param keyFn функция, извлекающая ключ элемента, например идентификатор счёта
+     * @param scheduler планировщик, на Worker которого выполняются дорожки
+     * @param <K> тип ключа
+     * @return ParallelObservable, рельсы которого соответствуют дорожкам
+     */
+    public <K> ParallelObservable<T> partition(int n, Function<T, K> keyFn, Scheduler scheduler) {
+        return ParallelObservable.partition(this, n, keyFn).runOn(scheduler);
+    }
+
+    /**
+     * Превращает Observable в ConnectableObservable, который раздаёт одну подписку
+     * на этот Observable всем подписчикам. Источник запускается вызовом
+     * {@link ConnectableObservable#connect()}, а не подпиской.
+     *
+     * @return ConnectableObservable над этим Observable
+     */
+    public ConnectableObservable<T> publish() {
+        return new ConnectableObservable<>(this);
+    }
+
+    /**
+     * Раздаёт одну подписку на этот Observable всем подписчикам: источник запускается
+     * при первой подписке и останавливается, когда отписывается последний подписчик.
+     * Эквивалентно {@code publish().refCount()}.
+     *
+     * @return Observable с общей подпиской на источник
+     */
+    public Observable<T> share() {
+        return publish().refCount();
+    }
+
+    /**
+     * Подписывается на этот Observable один раз, при первой подписке, и запоминает все его элементы.
+     * Каждый подписчик получает все элементы с начала, в том числе если подписался,
+     * пока источник ещё выдаёт элементы.
+     *
+     * @return Observable, воспроизводящий элементы источника
+     */
+    public Observable<T> cache() {
+        return new CachedObservable<>(this, Integer.MAX_VALUE);
+    }
+
+    /**
+     * То же, что {@link #cache()}, но хранит не больше maxSize последних элементов:
+     * новый подписчик получает последние maxSize элементов и дальнейшие события.
+     *
+     * @param maxSize максимальное число воспроизводимых элементов
+     * @return Observable, воспроизводящий последние элементы источника
+     */
+    public Observable<T> replay(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize > 0 required but it was " + maxSize);
+        }
+        return new CachedObservable<>(this, maxSize);
+    }
+
+    /**
+     * Параллельно применяет функцию к элементам на потоках планировщика,
+     * но выдаёт результаты в исходном порядке, как обычный map.
+     * Каждый элемент получает порядковый номер, а готовые результаты ждут в окне переупорядочивания,
+     * пока не будут выданы все предыдущие. Одновременно выполняется не больше parallelism вызовов mapper,
+     * а окно вмещает 2 * parallelism элементов: пока первый элемент окна обрабатывается медленно,
+     * следующие продолжают обрабатываться, но окно не растёт, а остальные элементы ждут в очереди.
+     * После ошибки источника новые элементы не отправляются на планировщик: выдаются результаты
+     * уже запущенных вызовов, затем ошибка.
+     *
+     * @param mapper функция для трансформации элементов, может вызываться из разных потоков
+     * @param parallelism число элементов, обрабатываемых одновременно
+     * @param scheduler планировщик, на котором выполняется mapper
+     * @param <R> новый тип элементов
+     * @return новый Observable с результатами в порядке исходных элементов
+     */
+    public <R> Observable<R> parallelMapOrdered(Function<T, R> mapper, int parallelism, Scheduler scheduler) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism > 0 required but it was " + parallelism);
+        }
+        return Observable.create(observer ->
+                this.subscribe(new OrderedMapObserver<>(observer, mapper, parallelism, scheduler))
+        );
+    }
+
+    private static final class ObserveOnObserver<T> implements BatchObserver<T>, Runnable, Disposable {
+        private static final int CHUNK_SIZE = 128;
+
+        private final ObservableEmitter<T> downstream;
+        private final Scheduler.Worker worker;
+        private final SpscLinkedArrayQueue<T> queue = new SpscLinkedArrayQueue<>(CHUNK_SIZE);
+        private final Object[] batch = new Object[CHUNK_SIZE];
+        private final AtomicInteger wip = new AtomicInteger();
+        private Disposable upstream;
+        private volatile boolean done;
+        private Throwable error;
+
+        ObserveOnObserver(ObservableEmitter<T> downstream, Scheduler scheduler) {
+            this.downstream = downstream;
+            this.worker = scheduler.createWorker();
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream = d;
+            downstream.setDisposable(this);
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+            worker.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return worker.isDisposed();
+        }
+
+        @Override
+        public void onNext(T value) {
+            if (done) {
+                return;
+            }
+            queue.offer(value);
+            schedule();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onNextBatch(Object[] items, int count) {
+            if (done) {
+                return;
+            }
+            for (int i = 0; i < count; i++) {
+                queue.offer((T) items[i]);
+            }
+            schedule();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            error = t;
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                worker.execute(this);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void run() {
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    if (downstream.isDisposed()) {
+                        queue.clear();
+                        return;
+                    }
+                    boolean isDone = done;
+                    int size = 0;
+                    T value;
+                    while (size < CHUNK_SIZE && (value = queue.poll()) != null) {
+                        batch[size++] = value;
+                    }
+                    if (size == 1) {
+                        downstream.onNext((T) batch[0]);
+                    } else if (size != 0) {
+                        downstream.onNextBatch(batch, size);
+                    }
+                    if (size != 0) {
+                        Arrays.fill(batch, 0, size, null);
+                        continue;
                     }
+                    if (isDone) {
+                        Throwable t = error;
+                        if (t != null) {
+                            downstream.onError(t);
+                        } else {
+                            downstream.onComplete();
+                        }
+                        return;
+                    }
+                    break;
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+    }
 
-                    @Override
-                    public void onError(Throwable error) {
-                        scheduler.execute(() -> observer.onError(error));
+    private static final class FlatMapObserver<T, R> implements Observer<T> {
+        private final ObservableEmitter<R> downstream;
+        private final Function<T, Observable<R>> mapper;
+        private final int maxConcurrency;
+        private final CompositeDisposable disposables = new CompositeDisposable();
+        private final Queue<Observable<R>> pending = new ConcurrentLinkedQueue<>();
+        private final Queue<R> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private volatile boolean done;
+
+        FlatMapObserver(ObservableEmitter<R> downstream, Function<T, Observable<R>> mapper, int maxConcurrency) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            disposables.add(d);
+            downstream.setDisposable(disposables);
+        }
+
+        @Override
+        public void onNext(T value) {
+            if (done) {
+                return;
+            }
+            Observable<R> innerObservable;
+            try {
+                innerObservable = mapper.apply(value);
+            } catch (Throwable throwable) {
+                onError(throwable);
+                return;
+            }
+            if (innerObservable instanceof SyncObservable.Just<R> just
+                    && active.get() < maxConcurrency && pending.isEmpty()) {
+                emit(just.value);
+                return;
+            }
+            if (innerObservable == SyncObservable.Empty.INSTANCE) {
+                return;
+            }
+            pending.offer(innerObservable);
+            startPending();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (error.compareAndSet(null, t)) {
+                disposables.dispose();
+            }
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            drain();
+        }
+
+        private void startPending() {
+            for (;;) {
+                int current = active.get();
+                if (current >= maxConcurrency) {
+                    return;
+                }
+                if (!active.compareAndSet(current, current + 1)) {
+                    continue;
+                }
+                Observable<R> innerObservable = pending.poll();
+                if (innerObservable != null) {
+                    innerObservable.subscribe(new InnerObserver());
+                    continue;
+                }
+                active.decrementAndGet();
+                if (pending.isEmpty()) {
+                    return;
+                }
+            }
+        }
+
+        private void emit(R value) {
+            if (wip.get() == 0 && wip.compareAndSet(0, 1)) {
+                if (!downstream.isDisposed() && error.get() == null) {
+                    downstream.onNext(value);
+                }
+                if (wip.decrementAndGet() == 0) {
+                    return;
+                }
+            } else {
+                queue.offer(value);
+                if (wip.getAndIncrement() != 0) {
+                    return;
+                }
+            }
+            drainLoop();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() == 0) {
+                drainLoop();
+            }
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    if (downstream.isDisposed()) {
+                        queue.clear();
+                        pending.clear();
+                        return;
+                    }
+                    Throwable t = error.get();
+                    if (t != null) {
+                        queue.clear();
+                        pending.clear();
+                        downstream.onError(t);
+                        return;
+                    }
+                    // pending читается раньше active: внутренний Observable увеличивает active до того,
+                    // как забрать источник из pending, поэтому забранный источник всегда виден в active
+                    boolean finished = done && pending.isEmpty() && active.get() == 0;
+                    R value = queue.poll();
+                    if (value == null) {
+                        if (finished) {
+                            downstream.onComplete();
+                            return;
+                        }
+                        break;
                     }
+                    downstream.onNext(value);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
 
-                    @Override
-                    public void onComplete() {
-                        scheduler.execute(observer::onComplete);
+        private final class InnerObserver implements Observer<R> {
+            private Disposable upstream;
+
+            @Override
+            public void onSubscribe(Disposable d) {
+                upstream = d;
+                disposables.add(d);
+            }
+
+            @Override
+            public void onNext(R item) {
+                emit(item);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                FlatMapObserver.this.onError(t);
+            }
+
+            @Override
+            public void onComplete() {
+                disposables.delete(upstream);
+                active.decrementAndGet();
+                startPending();
+                drain();
+            }
+        }
+    }
+
+    private static final class BufferExactObserver<T> implements Observer<T> {
+        private final ObservableEmitter<List<T>> downstream;
+        private final int count;
+        private final Supplier<List<T>> bufferSupplier;
+        private Disposable upstream;
+        private List<T> buffer;
+        private boolean done;
+
+        BufferExactObserver(ObservableEmitter<List<T>> downstream, int count, Supplier<List<T>> bufferSupplier) {
+            this.downstream = downstream;
+            this.count = count;
+            this.bufferSupplier = bufferSupplier;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream = d;
+            downstream.setDisposable(d);
+        }
+
+        @Override
+        public void onNext(T value) {
+            if (done) {
+                return;
+            }
+            List<T> current = buffer;
+            if (current == null) {
+                try {
+                    current = Objects.requireNonNull(bufferSupplier.get(), "bufferSupplier returned null");
+                } catch (Throwable throwable) {
+                    upstream.dispose();
+                    onError(throwable);
+                    return;
+                }
+                buffer = current;
+            }
+            current.add(value);
+            if (current.size() >= count) {
+                buffer = null;
+                downstream.onNext(current);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            buffer = null;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            List<T> current = buffer;
+            buffer = null;
+            if (current != null && !current.isEmpty()) {
+                downstream.onNext(current);
+            }
+            downstream.onComplete();
+        }
+    }
+
+    private static final class BufferSkipObserver<T> implements Observer<T> {
+        private final ObservableEmitter<List<T>> downstream;
+        private final int count;
+        private final int skip;
+        private final Supplier<List<T>> bufferSupplier;
+        private final ArrayDeque<List<T>> buffers = new ArrayDeque<>();
+        private Disposable upstream;
+        private long index;
+        private boolean done;
+
+        BufferSkipObserver(ObservableEmitter<List<T>> downstream, int count, int skip,
+                           Supplier<List<T>> bufferSupplier) {
+            this.downstream = downstream;
+            this.count = count;
+            this.skip = skip;
+            this.bufferSupplier = bufferSupplier;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            upstream = d;
+            downstream.setDisposable(d);
+        }
+
+        @Override
+        public void onNext(T value) {
+            if (done) {
+                return;
+            }
+            if (index++ % skip == 0) {
+                try {
+                    buffers.offer(Objects.requireNonNull(bufferSupplier.get(), "bufferSupplier returned null"));
+                } catch (Throwable throwable) {
+                    upstream.dispose();
+                    onError(throwable);
+                    return;
+                }
+            }
+            for (List<T> buffer : buffers) {
+                buffer.add(value);
+            }
+            List<T> head = buffers.peek();
+            if (head != null && head.size() >= count) {
+                buffers.poll();
+                downstream.onNext(head);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            buffers.clear();
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            List<T> buffer;
+            while ((buffer = buffers.poll()) != null && !downstream.isDisposed()) {
+                downstream.onNext(buffer);
+            }
+            downstream.onComplete();
+        }
+    }
+
+    /**
+     * Наблюдатель buffer по времени. Элементы приходят из потока источника,
+     * а таймер срабатывает на потоке планировщика, поэтому смена и выдача списка
+     * выполняются под монитором наблюдателя — так списки выдаются строго по очереди.
+     */
+    private static final class BufferTimedObserver<T> implements Observer<T>, Runnable {
+        private final ObservableEmitter<List<T>> downstream;
+        private final long timespan;
+        private final TimeUnit unit;
+        private final int maxSize;
+        private final Scheduler scheduler;
+        private final Supplier<List<T>> bufferSupplier;
+        private final CompositeDisposable disposables = new CompositeDisposable();
+        private List<T> buffer;
+        private boolean done;
+
+        BufferTimedObserver(ObservableEmitter<List<T>> downstream, long timespan, TimeUnit unit, int maxSize,
+                            Scheduler scheduler, Supplier<List<T>> bufferSupplier) {
+            this.downstream = downstream;
+            this.timespan = timespan;
+            this.unit = unit;
+            this.maxSize = maxSize;
+            this.scheduler = scheduler;
+            this.bufferSupplier = bufferSupplier;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            disposables.add(d);
+            downstream.setDisposable(disposables);
+            disposables.add(scheduler.schedulePeriodically(this, timespan, timespan, unit));
+        }
+
+        @Override
+        public synchronized void onNext(T value) {
+            if (done) {
+                return;
+            }
+            List<T> current = buffer;
+            if (current == null) {
+                try {
+                    current = Objects.requireNonNull(bufferSupplier.get(), "bufferSupplier returned null");
+                } catch (Throwable throwable) {
+                    onError(throwable);
+                    return;
+                }
+                buffer = current;
+            }
+            current.add(value);
+            if (current.size() >= maxSize) {
+                buffer = null;
+                downstream.onNext(current);
+            }
+        }
+
+        @Override
+        public synchronized void run() {
+            List<T> current = buffer;
+            if (done || current == null || current.isEmpty()) {
+                return;
+            }
+            buffer = null;
+            downstream.onNext(current);
+        }
+
+        @Override
+        public synchronized void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            buffer = null;
+            disposables.dispose();
+            downstream.onError(t);
+        }
+
+        @Override
+        public synchronized void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            List<T> current = buffer;
+            buffer = null;
+            if (current != null && !current.isEmpty()) {
+                downstream.onNext(current);
+            }
+            downstream.onComplete();
+            disposables.dispose();
+        }
+    }
+
+    /**
+     * Наблюдатель parallelMapOrdered. Всё состояние, кроме ячеек окна, меняется только внутри
+     * цикла разбора (wip), который одновременно выдаёт готовые результаты по порядку
+     * и отправляет новые элементы на планировщик, пока в окне есть место
+     * и число выполняющихся вызовов mapper меньше parallelism.
+     */
+    private static final class OrderedMapObserver<T, R> implements Observer<T> {
+        private final ObservableEmitter<R> downstream;
+        private final Function<T, R> mapper;
+        private final Scheduler scheduler;
+        private final int parallelism;
+        private final int window;
+        private final AtomicReferenceArray<Object> results;
+        private final Queue<T> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicInteger running = new AtomicInteger();
+        private volatile boolean done;
+        private volatile Throwable error;
+        private long submitted;
+        private long emitted;
+
+        OrderedMapObserver(ObservableEmitter<R> downstream, Function<T, R> mapper, int parallelism, Scheduler scheduler) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+            this.scheduler = scheduler;
+            this.parallelism = parallelism;
+            this.window = parallelism * 2;
+            this.results = new AtomicReferenceArray<>(window);
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            downstream.setDisposable(d);
+        }
+
+        @Override
+        public void onNext(T value) {
+            if (done) {
+                return;
+            }
+            pending.offer(value);
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            error = t;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            drain();
+        }
+
+        private void compute(long sequence, T value) {
+            if (downstream.isDisposed()) {
+                running.decrementAndGet();
+                return;
+            }
+            Object result;
+            try {
+                result = mapper.apply(value);
+                if (result == null) {
+                    result = new MapFailure(new NullPointerException("mapper returned null"));
+                }
+            } catch (Throwable throwable) {
+                result = new MapFailure(throwable);
+            }
+            results.set((int) (sequence % window), result);
+            running.decrementAndGet();
+            drain();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    if (downstream.isDisposed()) {
+                        pending.clear();
+                        return;
                     }
-                })
-        );
+                    boolean progress = false;
+                    while (emitted < submitted) {
+                        int index = (int) (emitted % window);
+                        Object result = results.get(index);
+                        if (result == null) {
+                            break;
+                        }
+                        results.lazySet(index, null);
+                        emitted++;
+                        if (result instanceof MapFailure failure) {
+                            pending.clear();
+                            downstream.onError(failure.error);
+                            return;
+                        }
+                        downstream.onNext((R) result);
+                        progress = true;
+                    }
+                    boolean isDone = done;
+                    if (error != null) {
+                        pending.clear();
+                    }
+                    while (submitted - emitted < window && running.get() < parallelism) {
+                        T value = pending.poll();
+                        if (value == null) {
+                            break;
+                        }
+                        long sequence = submitted++;
+                        running.incrementAndGet();
+                        scheduler.execute(() -> compute(sequence, value));
+                        progress = true;
+                    }
+                    if (isDone && emitted == submitted && pending.isEmpty()) {
+                        Throwable t = error;
+                        if (t != null) {
+                            downstream.onError(t);
+                        } else {
+                            downstream.onComplete();
+                        }
+                        return;
+                    }
+                    if (!progress) {
+                        break;
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private static final class MapFailure {
+            final Throwable error;
+
+            MapFailure(Throwable error) {
+                this.error = error;
+            }
+        }
+    }
+
+    /**
+     * Эмиттер подписки: пропускает события к наблюдателю, пока подписка не отменена,
+     * и при отмене освобождает ресурс, связанный с источником или предыдущим оператором.
+     * Пачку элементов передаёт одним вызовом, если наблюдатель реализует {@link BatchObserver},
+     * иначе по одному через onNext.
+     */
+    private static final class CreateEmitter<T> extends DisposableResource implements ObservableEmitter<T> {
+        private final Observer<T> observer;
+
+        CreateEmitter(Observer<T> observer) {
+            this.observer = observer;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            setDisposable(d);
+        }
+
+        @Override
+        public void onNext(T value) {
+            if (!isDisposed()) observer.onNext(value);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onNextBatch(Object[] items, int count) {
+            if (observer instanceof BatchObserver<T> batchObserver) {
+                if (!isDisposed()) batchObserver.onNextBatch(items, count);
+                return;
+            }
+            for (int i = 0; i < count && !isDisposed(); i++) {
+                observer.onNext((T) items[i]);
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            if (!isDisposed()) {
+                try {
+                    observer.onError(error);
+                } finally {
+                    dispose();
+                }
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!isDisposed()) {
+                try {
+                    observer.onComplete();
+                } finally {
+                    dispose();
+                }
+            }
+        }
     }
-}
\ No newline at end of file
+}
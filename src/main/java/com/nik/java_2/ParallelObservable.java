@@ -0,0 +1,315 @@
+package com.nik.java_2;
+
+import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.ObservableEmitter;
+import com.nik.java_2.interfaces.Observer;
+import com.nik.java_2.interfaces.Scheduler;
+import com.nik.java_2.internal.CompositeDisposable;
+import com.nik.java_2.internal.SerializedObserver;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Поток, элементы которого распределяются по нескольким независимым «рельсам».
+ * Создаётся через {@link Observable#parallel(int)}, где элементы источника раскладываются
+ * по рельсам по кругу, или через {@link Observable#partition(int, Function, Scheduler)},
+ * где рельса выбирается по хэшу ключа элемента. Операторы map/filter/reduce применяются
+ * к каждой рельсе отдельно, а {@link #runOn(Scheduler)} переводит обработку каждой рельсы
+ * на свой Worker планировщика. {@link #sequential()} объединяет рельсы обратно в один Observable,
+ * а {@link #subscribe(List)} передаёт результаты каждой рельсы своему наблюдателю.
+ * Порядок элементов внутри рельсы сохраняется, между рельсами — нет.
+ *
+ * @param <T> тип элементов рельс
+ */
+public class ParallelObservable<T> {
+    private final Observable<Object> source;
+    private final int rails;
+    private final ToIntFunction<Object> railSelector;
+    private final Function<Observable<Object>, Observable<T>> railTransform;
+
+    private ParallelObservable(Observable<Object> source, int rails, ToIntFunction<Object> railSelector,
+                               Function<Observable<Object>, Observable<T>> railTransform) {
+        this.source = source;
+        this.rails = rails;
+        this.railSelector = railSelector;
+        this.railTransform = railTransform;
+    }
+
+    static <T> ParallelObservable<T> from(Observable<T> source, int rails) {
+        return create(source, rails, null);
+    }
+
+    /**
+     * Раскладывает элементы по рельсам по хэшу ключа: элементы с равными ключами
+     * всегда попадают в одну рельсу и обрабатываются в порядке поступления.
+     */
+    @SuppressWarnings("unchecked")
+    static <T, K> ParallelObservable<T> partition(Observable<T> source, int rails, Function<T, K> keyFn) {
+        return create(source, rails, item -> {
+            int hash = keyFn.apply((T) item).hashCode();
+            return Math.floorMod(hash ^ (hash >>> 16), rails);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ParallelObservable<T> create(Observable<T> source, int rails, ToIntFunction<Object> railSelector) {
+        if (rails <= 0) {
+            throw new IllegalArgumentException("rails > 0 required but it was " + rails);
+        }
+        return new ParallelObservable<>((Observable<Object>) source, rails, railSelector, rail -> (Observable<T>) rail);
+    }
+
+    /**
+     * @return количество рельс
+     */
+    public int rails() {
+        return rails;
+    }
+
+    /**
+     * Переводит обработку каждой рельсы на отдельный Worker планировщика.
+     * Операторы, добавленные после runOn, выполняются на этих Worker параллельно.
+     *
+     * @param scheduler планировщик, например ComputationScheduler
+     * @return новый ParallelObservable
+     */
+    public ParallelObservable<T> runOn(Scheduler scheduler) {
+        return compose(rail -> rail.observeOn(scheduler));
+    }
+
+    /**
+     * Осуществляет трансформацию элементов каждой рельсы.
+     *
+     * @param mapper функция для трансформации элементов
+     * @param <R> новый тип элементов
+     * @return новый ParallelObservable
+     */
+    public <R> ParallelObservable<R> map(Function<T, R> mapper) {
+        return compose(rail -> rail.map(mapper));
+    }
+
+    /**
+     * Фильтрует элементы каждой рельсы.
+     *
+     * @param condition условие фильтрации элементов
+     * @return новый ParallelObservable
+     */
+    public ParallelObservable<T> filter(Predicate<T> condition) {
+        return compose(rail -> rail.filter(condition));
+    }
+
+    /**
+     * Сворачивает элементы каждой рельсы, а затем результаты рельс между собой.
+     * Функция должна быть ассоциативной, так как порядок элементов между рельсами не определён.
+     *
+     * @param reducer ассоциативная функция свёртки
+     * @return Observable из одного элемента или пустой, если источник пуст
+     */
+    public Observable<T> reduce(BinaryOperator<T> reducer) {
+        return reduce(compose(rail -> reduce(rail, reducer)).sequential(), reducer);
+    }
+
+    /**
+     * Объединяет рельсы обратно в один поток.
+     * События разных рельс передаются наблюдателю последовательно;
+     * поток завершается после завершения всех рельс.
+     *
+     * @return Observable с элементами всех рельс
+     */
+    public Observable<T> sequential() {
+        return Observable.create(this::subscribeMerged);
+    }
+
+    /**
+     * Подписывает на каждую рельсу отдельного наблюдателя.
+     * Наблюдатель рельсы получает её события последовательно, на Worker рельсы, если задан runOn.
+     * Ошибка источника передаётся всем наблюдателям, ошибка рельсы — только её наблюдателю.
+     *
+     * @param observers наблюдатели рельс, по одному на каждую рельсу
+     * @return Disposable для отмены подписки всех рельс и источника
+     */
+    public Disposable subscribe(List<? extends Observer<T>> observers) {
+        if (observers.size() != rails) {
+            throw new IllegalArgumentException("Expected " + rails + " observers but it was " + observers.size());
+        }
+        CompositeDisposable disposables = new CompositeDisposable();
+        subscribeRails(observers, disposables);
+        return disposables;
+    }
+
+    private <R> ParallelObservable<R> compose(Function<Observable<T>, Observable<R>> stage) {
+        return new ParallelObservable<>(source, rails, railSelector, railTransform.andThen(stage));
+    }
+
+    private void subscribeMerged(ObservableEmitter<T> emitter) {
+        CompositeDisposable disposables = new CompositeDisposable();
+        emitter.setDisposable(disposables);
+        Observer<T> merged = new SerializedObserver<>(emitter);
+        AtomicInteger remaining = new AtomicInteger(rails);
+        Observer<T> railObserver = new Observer<T>() {
+            @Override
+            public void onNext(T item) {
+                merged.onNext(item);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                disposables.dispose();
+                merged.onError(t);
+            }
+
+            @Override
+            public void onComplete() {
+                if (remaining.decrementAndGet() == 0) {
+                    merged.onComplete();
+                }
+            }
+        };
+        subscribeRails(Collections.nCopies(rails, railObserver), disposables);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void subscribeRails(List<? extends Observer<T>> observers, CompositeDisposable disposables) {
+        ObservableEmitter<Object>[] railEmitters = new ObservableEmitter[rails];
+        for (int i = 0; i < rails; i++) {
+            int index = i;
+            Observer<T> observer = observers.get(i);
+            Observable<Object> rail = Observable.create(railEmitter -> railEmitters[index] = railEmitter);
+            railTransform.apply(rail).subscribe(new Observer<T>() {
+                @Override
+                public void onSubscribe(Disposable d) {
+                    disposables.add(d);
+                    observer.onSubscribe(d);
+                }
+
+                @Override
+                public void onNext(T item) {
+                    observer.onNext(item);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    observer.onError(t);
+                }
+
+                @Override
+                public void onComplete() {
+                    observer.onComplete();
+                }
+            });
+        }
+        for (ObservableEmitter<Object> railEmitter : railEmitters) {
+            if (railEmitter == null) {
+                disposables.dispose();
+                throw new IllegalStateException("Rail was not subscribed synchronously");
+            }
+        }
+
+        source.subscribe(new Observer<Object>() {
+            private Disposable upstream;
+            private int next;
+
+            @Override
+            public void onSubscribe(Disposable d) {
+                upstream = d;
+                disposables.add(d);
+            }
+
+            @Override
+            public void onNext(Object item) {
+                if (railSelector == null) {
+                    railEmitters[next].onNext(item);
+                    if (++next == rails) {
+                        next = 0;
+                    }
+                    return;
+                }
+                int rail;
+                try {
+                    rail = railSelector.applyAsInt(item);
+                } catch (Throwable throwable) {
+                    upstream.dispose();
+                    onError(throwable);
+                    return;
+                }
+                railEmitters[rail].onNext(item);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                for (ObservableEmitter<Object> railEmitter : railEmitters) {
+                    railEmitter.onError(t);
+                }
+            }
+
+            @Override
+            public void onComplete() {
+                for (ObservableEmitter<Object> railEmitter : railEmitters) {
+                    railEmitter.onComplete();
+                }
+            }
+        });
+    }
+
+    private static <T> Observable<T> reduce(Observable<T> upstream, BinaryOperator<T> reducer) {
+        return Observable.create(observer ->
+                upstream.subscribe(new Observer<T>() {
+                    private Disposable upstream;
+                    private T result;
+                    private boolean done;
+
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        upstream = d;
+                        observer.setDisposable(d);
+                    }
+
+                    @Override
+                    public void onNext(T value) {
+                        if (done) {
+                            return;
+                        }
+                        if (result == null) {
+                            result = value;
+                            return;
+                        }
+                        try {
+                            result = reducer.apply(result, value);
+                        } catch (Throwable throwable) {
+                            done = true;
+                            result = null;
+                            upstream.dispose();
+                            observer.onError(throwable);
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        if (done) {
+                            return;
+                        }
+                        done = true;
+                        observer.onError(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        if (done) {
+                            return;
+                        }
+                        done = true;
+                        if (result != null) {
+                            observer.onNext(result);
+                        }
+                        observer.onComplete();
+                    }
+                })
+        );
+    }
+}
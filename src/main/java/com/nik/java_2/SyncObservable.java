@@ -0,0 +1,153 @@
+package com.nik.java_2;
+
+import com.nik.java_2.interfaces.ObservableEmitter;
+import com.nik.java_2.interfaces.Observer;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Синхронный источник, все элементы которого известны заранее.
+ * Операторы распознают такие источники по типу: слитая цепочка map/filter/limit
+ * обходит элементы напрямую, без эмиттера источника, а flatMap берёт значение
+ * {@link Just} сразу, не подписываясь на него.
+ *
+ * @param <T> тип элементов
+ */
+abstract class SyncObservable<T> extends Observable<T> {
+
+    /**
+     * Передаёт наблюдателю все элементы и завершающее событие, пока cancelled возвращает false.
+     */
+    abstract void drain(Observer<? super T> observer, BooleanSupplier cancelled);
+
+    @Override
+    protected void subscribeActual(ObservableEmitter<T> emitter) {
+        drain(emitter, emitter::isDisposed);
+    }
+
+    static final class Just<T> extends SyncObservable<T> {
+        final T value;
+
+        Just(T value) {
+            this.value = Objects.requireNonNull(value, "value is null");
+        }
+
+        @Override
+        void drain(Observer<? super T> observer, BooleanSupplier cancelled) {
+            observer.onNext(value);
+            if (!cancelled.getAsBoolean()) {
+                observer.onComplete();
+            }
+        }
+    }
+
+    static final class Empty extends SyncObservable<Object> {
+        static final Empty INSTANCE = new Empty();
+
+        @Override
+        void drain(Observer<? super Object> observer, BooleanSupplier cancelled) {
+            observer.onComplete();
+        }
+    }
+
+    /**
+     * Источник из копии массива. Элементы проверяются на null при создании, как у {@link Just}.
+     * Копия хранится как Object[], поэтому массив varargs не покидает {@link Observable#fromArray}.
+     */
+    static final class FromArray<T> extends SyncObservable<T> {
+        private final Object[] array;
+
+        FromArray(Object[] array) {
+            for (int i = 0; i < array.length; i++) {
+                Objects.requireNonNull(array[i], "items[" + i + "] is null");
+            }
+            this.array = array;
+        }
+
+        @Override
+        protected void subscribeActual(ObservableEmitter<T> emitter) {
+            emitter.onNextBatch(array, array.length);
+            if (!emitter.isDisposed()) {
+                emitter.onComplete();
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void drain(Observer<? super T> observer, BooleanSupplier cancelled) {
+            Object[] items = array;
+            for (int i = 0; i < items.length; i++) {
+                if (cancelled.getAsBoolean()) {
+                    return;
+                }
+                observer.onNext((T) items[i]);
+            }
+            if (!cancelled.getAsBoolean()) {
+                observer.onComplete();
+            }
+        }
+    }
+
+    static final class Range extends SyncObservable<Integer> {
+        private final int start;
+        private final long end;
+
+        Range(int start, int count) {
+            this.start = start;
+            this.end = (long) start + count;
+        }
+
+        @Override
+        void drain(Observer<? super Integer> observer, BooleanSupplier cancelled) {
+            for (long i = start; i < end; i++) {
+                if (cancelled.getAsBoolean()) {
+                    return;
+                }
+                observer.onNext((int) i);
+            }
+            if (!cancelled.getAsBoolean()) {
+                observer.onComplete();
+            }
+        }
+    }
+
+    static final class FromIterable<T> extends SyncObservable<T> {
+        private final Iterable<? extends T> iterable;
+
+        FromIterable(Iterable<? extends T> iterable) {
+            this.iterable = iterable;
+        }
+
+        @Override
+        void drain(Observer<? super T> observer, BooleanSupplier cancelled) {
+            Iterator<? extends T> iterator;
+            try {
+                iterator = iterable.iterator();
+            } catch (Throwable throwable) {
+                observer.onError(throwable);
+                return;
+            }
+            for (;;) {
+                if (cancelled.getAsBoolean()) {
+                    return;
+                }
+                T value;
+                try {
+                    if (!iterator.hasNext()) {
+                        break;
+                    }
+                    value = Objects.requireNonNull(iterator.next(), "iterator returned null");
+                } catch (Throwable throwable) {
+                    observer.onError(throwable);
+                    return;
+                }
+                observer.onNext(value);
+            }
+            if (!cancelled.getAsBoolean()) {
+                observer.onComplete();
+            }
+        }
+    }
+}
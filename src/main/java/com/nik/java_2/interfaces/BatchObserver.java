@@ -0,0 +1,10 @@
+package com.nik.java_2.interfaces;
+
+/**
+ * Наблюдатель, способный принимать элементы пачками.
+ * Массив items принадлежит отправителю и может быть переиспользован после возврата,
+ * поэтому сохранять его нельзя. Элементы имеют тип T, но сам массив может быть Object[].
+ */
+public interface BatchObserver<T> extends Observer<T> {
+    void onNextBatch(Object[] items, int count);
+}
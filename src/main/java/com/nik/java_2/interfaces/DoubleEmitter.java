@@ -0,0 +1,6 @@
+package com.nik.java_2.interfaces;
+
+public interface DoubleEmitter extends DoubleObserver {
+    void setDisposable(Disposable d);
+    boolean isDisposed();
+}
@@ -0,0 +1,10 @@
+package com.nik.java_2.interfaces;
+
+public interface DoubleObserver {
+    default void onSubscribe(Disposable d) {
+    }
+
+    void onNext(double item);
+    void onError(Throwable t);
+    void onComplete();
+}
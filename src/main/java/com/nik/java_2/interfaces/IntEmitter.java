@@ -0,0 +1,6 @@
+package com.nik.java_2.interfaces;
+
+public interface IntEmitter extends IntObserver {
+    void setDisposable(Disposable d);
+    boolean isDisposed();
+}
@@ -0,0 +1,10 @@
+package com.nik.java_2.interfaces;
+
+public interface IntObserver {
+    default void onSubscribe(Disposable d) {
+    }
+
+    void onNext(int item);
+    void onError(Throwable t);
+    void onComplete();
+}
@@ -0,0 +1,6 @@
+package com.nik.java_2.interfaces;
+
+public interface LongEmitter extends LongObserver {
+    void setDisposable(Disposable d);
+    boolean isDisposed();
+}
@@ -0,0 +1,10 @@
+package com.nik.java_2.interfaces;
+
+public interface LongObserver {
+    default void onSubscribe(Disposable d) {
+    }
+
+    void onNext(long item);
+    void onError(Throwable t);
+    void onComplete();
+}
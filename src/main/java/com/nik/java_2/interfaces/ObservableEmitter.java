@@ -0,0 +1,18 @@
+package com.nik.java_2.interfaces;
+
+public interface ObservableEmitter<T> extends Observer<T> {
+    void setDisposable(Disposable d);
+    boolean isDisposed();
+
+    /**
+     * Передаёт первые count элементов массива одной пачкой. Массив принимается как Object[],
+     * как в {@link BatchObserver}, чтобы переиспользуемые буферы операторов не приводились к T[];
+     * все переданные элементы должны иметь тип T.
+     */
+    @SuppressWarnings("unchecked")
+    default void onNextBatch(Object[] items, int count) {
+        for (int i = 0; i < count && !isDisposed(); i++) {
+            onNext((T) items[i]);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.nik.java_2.interfaces;
 
 public interface Observer<T> {
+    default void onSubscribe(Disposable d) {
+    }
+
     void onNext(T item);
     void onError(Throwable t);
     void onComplete();
-}
\ No newline at end of file
+}
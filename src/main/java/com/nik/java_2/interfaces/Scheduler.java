@@ -1,5 +1,22 @@
 package com.nik.java_2.interfaces;
 
+import java.util.concurrent.TimeUnit;
+
 public interface Scheduler {
     void execute(Runnable task);
+
+    Disposable schedule(Runnable task, long delay, TimeUnit unit);
+
+    Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit);
+
+    /**
+     * Создаёт Worker: задачи одного Worker выполняются по очереди в порядке поступления
+     * и не пересекаются по времени, а разные Worker могут выполняться параллельно.
+     */
+    Worker createWorker();
+
+    interface Worker extends Disposable {
+        void execute(Runnable task);
+        Disposable schedule(Runnable task, long delay, TimeUnit unit);
+    }
 }
@@ -0,0 +1,8 @@
+package com.nik.java_2.interfaces;
+
+public interface Subscriber<T> {
+    void onSubscribe(Subscription subscription);
+    void onNext(T item);
+    void onError(Throwable t);
+    void onComplete();
+}
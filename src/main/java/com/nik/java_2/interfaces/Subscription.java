@@ -0,0 +1,6 @@
+package com.nik.java_2.interfaces;
+
+public interface Subscription {
+    void request(long n);
+    void cancel();
+}
@@ -0,0 +1,75 @@
+package com.nik.java_2.internal;
+
+import com.nik.java_2.interfaces.Disposable;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Контейнер для нескольких Disposable, которые отменяются вместе.
+ * Disposable, добавленный после отмены контейнера, отменяется сразу.
+ */
+public final class CompositeDisposable implements Disposable {
+    private Set<Disposable> resources = new HashSet<>();
+    private volatile boolean disposed;
+
+    /**
+     * @return false, если контейнер уже отменён и переданный ресурс был сразу освобождён
+     */
+    public boolean add(Disposable d) {
+        if (!disposed) {
+            synchronized (this) {
+                if (!disposed) {
+                    resources.add(d);
+                    return true;
+                }
+            }
+        }
+        d.dispose();
+        return false;
+    }
+
+    /**
+     * Удаляет ресурс из контейнера, не отменяя его.
+     */
+    public void delete(Disposable d) {
+        if (disposed) {
+            return;
+        }
+        synchronized (this) {
+            if (!disposed) {
+                resources.remove(d);
+            }
+        }
+    }
+
+    public int size() {
+        synchronized (this) {
+            return disposed ? 0 : resources.size();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (disposed) {
+            return;
+        }
+        Set<Disposable> current;
+        synchronized (this) {
+            if (disposed) {
+                return;
+            }
+            disposed = true;
+            current = resources;
+            resources = null;
+        }
+        for (Disposable d : current) {
+            d.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+}
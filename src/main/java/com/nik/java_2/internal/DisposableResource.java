@@ -0,0 +1,54 @@
+package com.nik.java_2.internal;
+
+import com.nik.java_2.interfaces.Disposable;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Отменяемая подписка, хранящая ресурс источника или предыдущего оператора.
+ * При отмене ресурс освобождается; ресурс, переданный после отмены, освобождается сразу.
+ */
+public class DisposableResource implements Disposable {
+    private static final Disposable DISPOSED = new Disposable() {
+        @Override
+        public void dispose() {
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return true;
+        }
+    };
+
+    private final AtomicReference<Disposable> resource = new AtomicReference<>();
+
+    /**
+     * Заменяет текущий ресурс, освобождая предыдущий.
+     */
+    public void setDisposable(Disposable d) {
+        for (;;) {
+            Disposable current = resource.get();
+            if (current == DISPOSED) {
+                if (d != null) d.dispose();
+                return;
+            }
+            if (resource.compareAndSet(current, d)) {
+                if (current != null) current.dispose();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        Disposable current = resource.getAndSet(DISPOSED);
+        if (current != null && current != DISPOSED) {
+            current.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return resource.get() == DISPOSED;
+    }
+}
@@ -0,0 +1,69 @@
+package com.nik.java_2.internal;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Неблокирующая неограниченная очередь для многих производителей и одного потребителя.
+ * Добавление — одна операция getAndSet над хвостом, извлечение выполняется без CAS.
+ *
+ * @param <E> тип элементов очереди (null не допускается)
+ */
+public final class MpscLinkedQueue<E> {
+    private final AtomicReference<Node<E>> producerNode;
+    private Node<E> consumerNode;
+
+    public MpscLinkedQueue() {
+        Node<E> stub = new Node<>(null);
+        this.producerNode = new AtomicReference<>(stub);
+        this.consumerNode = stub;
+    }
+
+    /**
+     * Добавляет элемент. Может вызываться из любого потока.
+     */
+    public void offer(E item) {
+        Objects.requireNonNull(item, "item is null");
+        Node<E> node = new Node<>(item);
+        Node<E> previous = producerNode.getAndSet(node);
+        previous.lazySet(node);
+    }
+
+    /**
+     * Извлекает элемент. Вызывается только из потока потребителя.
+     *
+     * @return элемент или null, если очередь пуста
+     */
+    public E poll() {
+        Node<E> next = consumerNode.get();
+        if (next == null) {
+            if (producerNode.get() == consumerNode) {
+                return null;
+            }
+            // производитель уже занял хвост, но ещё не связал узел
+            do {
+                next = consumerNode.get();
+            } while (next == null);
+        }
+        E item = next.value;
+        next.value = null;
+        consumerNode = next;
+        return item;
+    }
+
+    /**
+     * Проверяет, пуста ли очередь. Вызывается только из потока потребителя.
+     */
+    public boolean isEmpty() {
+        return producerNode.get() == consumerNode;
+    }
+
+    @SuppressWarnings("serial")
+    private static final class Node<E> extends AtomicReference<Node<E>> {
+        E value;
+
+        Node(E value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.nik.java_2.internal;
+
+import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.Observer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Наблюдатель, принимающий события из нескольких потоков одновременно
+ * и передающий их дальше строго последовательно и без блокировок.
+ * Если никто не передаёт события в данный момент, элемент отдаётся сразу,
+ * иначе кладётся в очередь, которую разбирает поток, уже находящийся внутри.
+ * После первого завершающего события остальные события игнорируются.
+ *
+ * @param <T> тип элементов потока
+ */
+public final class SerializedObserver<T> implements Observer<T> {
+    private static final Object COMPLETE = new Object();
+
+    private final Observer<T> downstream;
+    private final MpscLinkedQueue<Object> queue = new MpscLinkedQueue<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private boolean terminated;
+
+    public SerializedObserver(Observer<T> downstream) {
+        this.downstream = downstream;
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        downstream.onSubscribe(d);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (wip.get() == 0 && wip.compareAndSet(0, 1)) {
+            if (!terminated) {
+                downstream.onNext(item);
+            }
+            if (wip.decrementAndGet() == 0) {
+                return;
+            }
+        } else {
+            queue.offer(item);
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+        }
+        drainLoop();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        queue.offer(new ErrorNotification(t));
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        queue.offer(COMPLETE);
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() == 0) {
+            drainLoop();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drainLoop() {
+        int missed = 1;
+        for (;;) {
+            Object value;
+            while ((value = queue.poll()) != null) {
+                if (terminated) {
+                    continue;
+                }
+                if (value == COMPLETE) {
+                    terminated = true;
+                    downstream.onComplete();
+                } else if (value instanceof ErrorNotification notification) {
+                    terminated = true;
+                    downstream.onError(notification.error);
+                } else {
+                    downstream.onNext((T) value);
+                }
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private static final class ErrorNotification {
+        final Throwable error;
+
+        ErrorNotification(Throwable error) {
+            this.error = error;
+        }
+    }
+}
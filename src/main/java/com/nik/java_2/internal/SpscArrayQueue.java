@@ -0,0 +1,89 @@
+package com.nik.java_2.internal;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Ограниченная неблокирующая очередь-кольцо для одного производителя и одного потребителя.
+ * Занятость ячейки определяется самим элементом, поэтому производитель и потребитель
+ * не читают индексы друг друга на горячем пути.
+ *
+ * @param <E> тип элементов очереди (null не допускается)
+ */
+public final class SpscArrayQueue<E> {
+    private final AtomicReferenceArray<E> buffer;
+    private final int mask;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    /**
+     * @param capacity минимальная ёмкость очереди, округляется вверх до степени двойки
+     */
+    public SpscArrayQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity > 0 required but it was " + capacity);
+        }
+        int size = roundToPowerOfTwo(capacity);
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Добавляет элемент. Вызывается только из потока производителя.
+     *
+     * @return false, если очередь заполнена
+     */
+    public boolean offer(E item) {
+        Objects.requireNonNull(item, "item is null");
+        long index = producerIndex.get();
+        int offset = (int) index & mask;
+        if (buffer.get(offset) != null) {
+            return false;
+        }
+        buffer.lazySet(offset, item);
+        producerIndex.lazySet(index + 1);
+        return true;
+    }
+
+    /**
+     * Извлекает элемент. Вызывается только из потока потребителя.
+     *
+     * @return элемент или null, если очередь пуста
+     */
+    public E poll() {
+        long index = consumerIndex.get();
+        int offset = (int) index & mask;
+        E item = buffer.get(offset);
+        if (item == null) {
+            return null;
+        }
+        buffer.lazySet(offset, null);
+        consumerIndex.lazySet(index + 1);
+        return item;
+    }
+
+    public boolean isEmpty() {
+        return producerIndex.get() == consumerIndex.get();
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Очищает очередь. Вызывается только из потока потребителя.
+     */
+    public void clear() {
+        while (poll() != null) {
+            // drain
+        }
+    }
+
+    static int roundToPowerOfTwo(int value) {
+        if (value > (1 << 30)) {
+            throw new IllegalArgumentException("capacity is too large: " + value);
+        }
+        return value == 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+}
@@ -0,0 +1,102 @@
+package com.nik.java_2.internal;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Неограниченная очередь для одного производителя и одного потребителя,
+ * составленная из связанных массивов фиксированного размера.
+ * Используется там, где у источника нет обратного давления: память выделяется
+ * блоками, а не на каждый элемент, и не копируется при росте.
+ *
+ * @param <E> тип элементов очереди (null не допускается)
+ */
+public final class SpscLinkedArrayQueue<E> {
+    private final int chunkSize;
+
+    private Chunk<E> producerChunk;
+    private int producerOffset;
+
+    private Chunk<E> consumerChunk;
+    private int consumerOffset;
+
+    /**
+     * @param chunkSize размер одного блока очереди
+     */
+    public SpscLinkedArrayQueue(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize > 0 required but it was " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        Chunk<E> chunk = new Chunk<>(chunkSize);
+        this.producerChunk = chunk;
+        this.consumerChunk = chunk;
+    }
+
+    /**
+     * Добавляет элемент. Вызывается только из потока производителя.
+     */
+    public void offer(E item) {
+        Objects.requireNonNull(item, "item is null");
+        if (producerOffset == chunkSize) {
+            Chunk<E> next = new Chunk<>(chunkSize);
+            next.items.lazySet(0, item);
+            producerChunk.next = next;
+            producerChunk = next;
+            producerOffset = 1;
+            return;
+        }
+        producerChunk.items.lazySet(producerOffset++, item);
+    }
+
+    /**
+     * Извлекает элемент. Вызывается только из потока потребителя.
+     *
+     * @return элемент или null, если очередь пуста
+     */
+    public E poll() {
+        if (consumerOffset == chunkSize) {
+            Chunk<E> next = consumerChunk.next;
+            if (next == null) {
+                return null;
+            }
+            consumerChunk = next;
+            consumerOffset = 0;
+        }
+        E item = consumerChunk.items.get(consumerOffset);
+        if (item == null) {
+            return null;
+        }
+        consumerChunk.items.lazySet(consumerOffset++, null);
+        return item;
+    }
+
+    /**
+     * Проверяет, пуста ли очередь. Вызывается только из потока потребителя.
+     */
+    public boolean isEmpty() {
+        if (consumerOffset == chunkSize) {
+            Chunk<E> next = consumerChunk.next;
+            return next == null || next.items.get(0) == null;
+        }
+        return consumerChunk.items.get(consumerOffset) == null;
+    }
+
+    /**
+     * Очищает очередь. Вызывается только из потока потребителя.
+     */
+    public void clear() {
+        while (poll() != null) {
+            // drain
+        }
+    }
+
+    private static final class Chunk<E> {
+        final AtomicReferenceArray<E> items;
+        volatile Chunk<E> next;
+
+        Chunk(int size) {
+            this.items = new AtomicReferenceArray<>(size);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.nik.java_2.internal;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+
+/**
+ * Набор подписчиков горячего источника в неизменяемом массиве.
+ * При добавлении и удалении массив копируется и заменяется через CAS,
+ * поэтому рассылка события — простой цикл по массиву из {@link #get()} без блокировок.
+ * После {@link #terminate()} новые подписчики не добавляются.
+ *
+ * @param <S> тип подписчика
+ */
+public final class SubscriberArray<S> {
+    private final IntFunction<S[]> arrayFactory;
+    private final S[] empty;
+    private final S[] terminated;
+    private final AtomicReference<S[]> subscribers;
+
+    /**
+     * @param arrayFactory создаёт массив подписчиков заданной длины
+     */
+    public SubscriberArray(IntFunction<S[]> arrayFactory) {
+        this.arrayFactory = arrayFactory;
+        this.empty = arrayFactory.apply(0);
+        this.terminated = arrayFactory.apply(0);
+        this.subscribers = new AtomicReference<>(empty);
+    }
+
+    /**
+     * @return текущие подписчики; массив не изменяется
+     */
+    public S[] get() {
+        return subscribers.get();
+    }
+
+    /**
+     * Добавляет подписчика.
+     *
+     * @return false, если набор уже завершён и подписчик не добавлен
+     */
+    public boolean add(S subscriber) {
+        for (;;) {
+            S[] current = subscribers.get();
+            if (current == terminated) {
+                return false;
+            }
+            int length = current.length;
+            S[] next = arrayFactory.apply(length + 1);
+            System.arraycopy(current, 0, next, 0, length);
+            next[length] = subscriber;
+            if (subscribers.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    public void remove(S subscriber) {
+        for (;;) {
+            S[] current = subscribers.get();
+            int length = current.length;
+            int index = -1;
+            for (int i = 0; i < length; i++) {
+                if (current[i] == subscriber) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return;
+            }
+            S[] next;
+            if (length == 1) {
+                next = empty;
+            } else {
+                next = arrayFactory.apply(length - 1);
+                System.arraycopy(current, 0, next, 0, index);
+                System.arraycopy(current, index + 1, next, index, length - index - 1);
+            }
+            if (subscribers.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Завершает набор.
+     *
+     * @return подписчики на момент завершения, которым нужно передать завершающее событие
+     */
+    public S[] terminate() {
+        return subscribers.getAndSet(terminated);
+    }
+}
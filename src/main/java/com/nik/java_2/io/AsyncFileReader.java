@@ -0,0 +1,170 @@
+package com.nik.java_2.io;
+
+import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.ObservableEmitter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Чтение файла кусками через {@link AsynchronousFileChannel} без блокировки потоков.
+ * У подписки есть readAhead ячеек, у каждой свой прямой буфер, переиспользуемый между чтениями.
+ * Чтение куска i выполняется в ячейку i % readAhead; готовые куски выдаются строго по порядку,
+ * и после того как onNext вернул управление, в освободившийся буфер запрашивается
+ * кусок i + readAhead. Так одновременно читается не больше readAhead кусков,
+ * а новое чтение не начинается, пока получатель не обработал предыдущий кусок.
+ */
+final class AsyncFileReader implements CompletionHandler<Integer, AsyncFileReader.Slot>, Disposable {
+    private final AsynchronousFileChannel channel;
+    private final ObservableEmitter<ByteBuffer> downstream;
+    private final int chunkSize;
+    private final Slot[] slots;
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile boolean disposed;
+    private long emitted;
+
+    AsyncFileReader(AsynchronousFileChannel channel, ObservableEmitter<ByteBuffer> downstream,
+                    int chunkSize, int readAhead) {
+        this.channel = channel;
+        this.downstream = downstream;
+        this.chunkSize = chunkSize;
+        this.slots = new Slot[readAhead];
+        for (int i = 0; i < readAhead; i++) {
+            slots[i] = new Slot(ByteBuffer.allocateDirect(chunkSize));
+        }
+    }
+
+    void start() {
+        downstream.setDisposable(this);
+        for (int i = 0; i < slots.length; i++) {
+            read(slots[i], i);
+        }
+    }
+
+    private void read(Slot slot, long sequence) {
+        slot.buffer.clear();
+        slot.position = sequence * chunkSize;
+        slot.eof = false;
+        slot.error = null;
+        slot.ready = false;
+        readMore(slot);
+    }
+
+    private void readMore(Slot slot) {
+        if (disposed) {
+            return;
+        }
+        try {
+            channel.read(slot.buffer, slot.position + slot.buffer.position(), slot, this);
+        } catch (Throwable throwable) {
+            failed(throwable, slot);
+        }
+    }
+
+    @Override
+    public void completed(Integer bytes, Slot slot) {
+        if (bytes < 0) {
+            slot.eof = true;
+        } else if (slot.buffer.hasRemaining()) {
+            readMore(slot);
+            return;
+        }
+        slot.ready = true;
+        drain();
+    }
+
+    @Override
+    public void failed(Throwable error, Slot slot) {
+        slot.error = error;
+        slot.ready = true;
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        for (;;) {
+            for (;;) {
+                if (disposed) {
+                    close();
+                    return;
+                }
+                Slot slot = slots[(int) (emitted % slots.length)];
+                if (!slot.ready) {
+                    break;
+                }
+                if (slot.error != null) {
+                    disposed = true;
+                    close();
+                    downstream.onError(slot.error);
+                    return;
+                }
+                ByteBuffer buffer = slot.buffer;
+                buffer.flip();
+                if (!buffer.hasRemaining()) {
+                    disposed = true;
+                    close();
+                    downstream.onComplete();
+                    return;
+                }
+                downstream.onNext(buffer);
+                if (slot.eof) {
+                    disposed = true;
+                    close();
+                    downstream.onComplete();
+                    return;
+                }
+                read(slot, emitted + slots.length);
+                emitted++;
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private void close() {
+        if (closed.compareAndSet(false, true)) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // канал только читался, потерять при закрытии нечего
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+        drain();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+
+    /**
+     * Ячейка опережающего чтения: буфер и состояние текущего запроса.
+     * Поля пишутся в обработчике завершения и читаются в цикле выдачи после volatile ready.
+     */
+    static final class Slot {
+        final ByteBuffer buffer;
+        long position;
+        boolean eof;
+        Throwable error;
+        volatile boolean ready;
+
+        Slot(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.nik.java_2.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Строка файла в виде ссылки на участок отображённого в память буфера.
+ * Байты не копируются и не декодируются, пока не понадобится текст:
+ * проверки {@link #startsWith(byte[])} и {@link #contains(byte[])} работают прямо с буфером,
+ * а {@link #toString()} декодирует строку один раз и запоминает результат.
+ * Строка удерживает ссылку на окно отображения, поэтому долго хранить много строк не стоит.
+ */
+public final class Line implements CharSequence {
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+    private final Charset charset;
+    private String decoded;
+
+    Line(ByteBuffer buffer, int offset, int length, Charset charset) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+        this.charset = charset;
+    }
+
+    /**
+     * @return длина строки в байтах без символа перевода строки
+     */
+    public int byteLength() {
+        return length;
+    }
+
+    /**
+     * @return байт строки с индексом index
+     */
+    public byte byteAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + " out of bounds for length " + length);
+        }
+        return buffer.get(offset + index);
+    }
+
+    /**
+     * @return true, если строка начинается с заданных байтов
+     */
+    public boolean startsWith(byte[] prefix) {
+        return prefix.length <= length && matches(offset, prefix);
+    }
+
+    /**
+     * @return true, если строка содержит заданную последовательность байтов
+     */
+    public boolean contains(byte[] bytes) {
+        int last = offset + length - bytes.length;
+        for (int i = offset; i <= last; i++) {
+            if (matches(i, bytes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matches(int position, byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (buffer.get(position + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return буфер только для чтения с байтами строки, без копирования
+     */
+    public ByteBuffer asByteBuffer() {
+        return buffer.slice(offset, length).asReadOnlyBuffer();
+    }
+
+    @Override
+    public int length() {
+        return toString().length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return toString().charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        String text = decoded;
+        if (text == null) {
+            byte[] bytes = new byte[length];
+            buffer.get(offset, bytes);
+            text = new String(bytes, charset);
+            decoded = text;
+        }
+        return text;
+    }
+}
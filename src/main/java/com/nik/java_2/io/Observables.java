@@ -0,0 +1,188 @@
+package com.nik.java_2.io;
+
+import com.nik.java_2.Observable;
+import com.nik.java_2.interfaces.ObservableEmitter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Источники Observable для чтения файлов.
+ */
+public final class Observables {
+    private static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+    private static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+    private static final int DEFAULT_READ_AHEAD = 4;
+    private static final long NEWLINES = 0x0A0A0A0A0A0A0A0AL;
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private Observables() {
+    }
+
+    /**
+     * Создаёт Observable строк файла, отображая файл в память через {@link FileChannel#map}.
+     * Строки выдаются как {@link Line} — ссылки на участки отображённого буфера без копирования
+     * и декодирования, поэтому отброшенные фильтром строки почти ничего не стоят.
+     * Файлы больше окна отображения (64 МБ) читаются последовательными окнами,
+     * так что поддерживаются файлы больше 2 ГБ.
+     * Чтение идёт в потоке подписки и прекращается при отмене подписки.
+     *
+     * @param path путь к файлу
+     * @param charset кодировка, в которой перевод строки — один байт '\n' (UTF-8, ASCII, ISO-8859-1 и т.п.)
+     * @return Observable строк файла
+     */
+    public static Observable<Line> lines(Path path, Charset charset) {
+        return lines(path, charset, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * То же, что {@link #lines(Path, Charset)}, но с заданным размером окна отображения.
+     * Строка длиннее окна читается увеличенным окном.
+     *
+     * @param path путь к файлу
+     * @param charset кодировка, в которой перевод строки — один байт '\n'
+     * @param windowSize размер окна отображения в байтах
+     * @return Observable строк файла
+     */
+    public static Observable<Line> lines(Path path, Charset charset, int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize > 0 required but it was " + windowSize);
+        }
+        if (!Arrays.equals("\n".getBytes(charset), new byte[]{'\n'})) {
+            throw new IllegalArgumentException("Charset " + charset + " does not encode a newline as a single byte");
+        }
+        return Observable.create(emitter -> {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                readLines(channel, charset, windowSize, emitter);
+            } catch (IOException | RuntimeException e) {
+                emitter.onError(e);
+            }
+        });
+    }
+
+    /**
+     * Создаёт Observable кусков файла, читаемых через {@link AsynchronousFileChannel}
+     * кусками по 64 КБ с опережением на 4 куска.
+     *
+     * @param path путь к файлу
+     * @return Observable кусков файла
+     * @see #read(Path, int, int)
+     */
+    public static Observable<ByteBuffer> read(Path path) {
+        return read(path, DEFAULT_CHUNK_SIZE, DEFAULT_READ_AHEAD);
+    }
+
+    /**
+     * Создаёт Observable кусков файла, читаемых через {@link AsynchronousFileChannel}.
+     * Поток не блокируется на ожидании диска: чтения выполняются асинхронно,
+     * а куски выдаются по порядку из потоков завершения канала.
+     * На подписку выделяется readAhead прямых буферов размером chunkSize, и они переиспользуются:
+     * буфер действителен только до возврата из onNext, после чего в него читается следующий кусок.
+     * Чтобы передать кусок дальше асинхронно (например, через observeOn), его нужно скопировать.
+     * Все куски, кроме последнего, имеют размер ровно chunkSize.
+     *
+     * @param path путь к файлу
+     * @param chunkSize размер куска в байтах
+     * @param readAhead сколько кусков читается заранее, пока получатель обрабатывает текущий
+     * @return Observable кусков файла
+     */
+    public static Observable<ByteBuffer> read(Path path, int chunkSize, int readAhead) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize > 0 required but it was " + chunkSize);
+        }
+        if (readAhead <= 0) {
+            throw new IllegalArgumentException("readAhead > 0 required but it was " + readAhead);
+        }
+        return Observable.create(emitter -> {
+            AsynchronousFileChannel channel;
+            try {
+                channel = AsynchronousFileChannel.open(path, StandardOpenOption.READ);
+            } catch (IOException | RuntimeException e) {
+                emitter.onError(e);
+                return;
+            }
+            new AsyncFileReader(channel, emitter, chunkSize, readAhead).start();
+        });
+    }
+
+    private static void readLines(FileChannel channel, Charset charset, int windowSize,
+                                  ObservableEmitter<Line> emitter) throws IOException {
+        long size = channel.size();
+        long position = 0;
+        int window = windowSize;
+        while (position < size) {
+            if (emitter.isDisposed()) {
+                return;
+            }
+            int length = (int) Math.min(window, size - position);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            boolean last = position + length == size;
+            int lineStart = 0;
+            int newline;
+            while ((newline = indexOfNewline(buffer, lineStart, length)) >= 0) {
+                if (emitter.isDisposed()) {
+                    return;
+                }
+                emitter.onNext(line(buffer, lineStart, newline, charset));
+                lineStart = newline + 1;
+            }
+            if (last) {
+                if (lineStart < length && !emitter.isDisposed()) {
+                    emitter.onNext(line(buffer, lineStart, length, charset));
+                }
+                break;
+            }
+            if (lineStart == 0) {
+                if (window == Integer.MAX_VALUE) {
+                    throw new IOException("Line at offset " + position + " is longer than " + Integer.MAX_VALUE + " bytes");
+                }
+                window = (int) Math.min(Integer.MAX_VALUE, window * 2L);
+                continue;
+            }
+            position += lineStart;
+            window = windowSize;
+        }
+        if (!emitter.isDisposed()) {
+            emitter.onComplete();
+        }
+    }
+
+    private static Line line(MappedByteBuffer buffer, int start, int end, Charset charset) {
+        if (end > start && buffer.get(end - 1) == '\r') {
+            end--;
+        }
+        return new Line(buffer, start, end - start, charset);
+    }
+
+    /**
+     * Ищет '\n' по восемь байт за шаг: в слове, сложенном по XOR с маской из '\n',
+     * байт перевода строки становится нулевым, а нулевой байт находится
+     * стандартным приёмом (x - 0x01..01) & ~x & 0x80..80.
+     */
+    private static int indexOfNewline(MappedByteBuffer buffer, int from, int to) {
+        int i = from;
+        for (; i + Long.BYTES <= to; i += Long.BYTES) {
+            long word = buffer.getLong(i) ^ NEWLINES;
+            long found = (word - LOW_BITS) & ~word & HIGH_BITS;
+            if (found != 0) {
+                return i + (Long.numberOfTrailingZeros(found) >>> 3);
+            }
+        }
+        for (; i < to; i++) {
+            if (buffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,86 @@
+package com.nik.java_2.net;
+
+import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.ObservableEmitter;
+
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Источник входящих соединений серверного канала. Принятые каналы переводятся в неблокирующий режим.
+ * Отмена подписки прекращает приём, но не закрывает серверный канал.
+ */
+final class Acceptor implements SelectorLoop.Handler, Disposable {
+    private final SelectorLoop loop;
+    private final ServerSocketChannel server;
+    private final ObservableEmitter<SocketChannel> downstream;
+    private SelectionKey key;
+    private volatile boolean disposed;
+
+    Acceptor(SelectorLoop loop, ServerSocketChannel server, ObservableEmitter<SocketChannel> downstream) {
+        this.loop = loop;
+        this.server = server;
+        this.downstream = downstream;
+    }
+
+    void start() {
+        downstream.setDisposable(this);
+        try {
+            loop.execute(this::attach);
+        } catch (RejectedExecutionException e) {
+            downstream.onError(e);
+        }
+    }
+
+    private void attach() {
+        if (disposed) {
+            return;
+        }
+        try {
+            key = loop.register(server, this);
+            key.interestOps(SelectionKey.OP_ACCEPT);
+        } catch (IOException | RuntimeException e) {
+            downstream.onError(e);
+        }
+    }
+
+    @Override
+    public void ready(SelectionKey key) throws IOException {
+        SocketChannel channel;
+        while (!disposed && (channel = server.accept()) != null) {
+            channel.configureBlocking(false);
+            downstream.onNext(channel);
+        }
+    }
+
+    @Override
+    public void fail(Throwable error) {
+        key.cancel();
+        downstream.onError(error);
+    }
+
+    @Override
+    public void dispose() {
+        if (disposed) {
+            return;
+        }
+        disposed = true;
+        try {
+            loop.execute(() -> {
+                if (key != null) {
+                    key.cancel();
+                }
+            });
+        } catch (RejectedExecutionException ignored) {
+            // цикл остановлен и уже снял регистрацию
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+}
@@ -0,0 +1,86 @@
+package com.nik.java_2.net;
+
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Состояние канала в цикле: источник чтения, приёмник записи и общий ключ выбора.
+ * Канал закрывается, когда и чтение, и запись завершены.
+ * Все методы вызываются в потоке цикла.
+ */
+final class Connection implements SelectorLoop.Handler {
+    final SocketChannel channel;
+    SelectionKey key;
+    SocketReader reader;
+    SocketWriter writer;
+
+    Connection(SocketChannel channel) {
+        this.channel = channel;
+    }
+
+    void interest(int op, boolean enabled) {
+        if (key.isValid()) {
+            int ops = key.interestOps();
+            key.interestOps(enabled ? ops | op : ops & ~op);
+        }
+    }
+
+    @Override
+    public void ready(SelectionKey key) throws IOException {
+        if (key.isReadable() && reader != null) {
+            reader.read();
+        }
+        if (key.isValid() && key.isWritable() && writer != null) {
+            writer.flush();
+        }
+    }
+
+    void readerDone(SocketReader done) {
+        if (reader != done) {
+            return;
+        }
+        reader = null;
+        interest(SelectionKey.OP_READ, false);
+        if (writer == null) {
+            close();
+        }
+    }
+
+    void writerDone(SocketWriter done) throws IOException {
+        if (writer != done) {
+            return;
+        }
+        writer = null;
+        interest(SelectionKey.OP_WRITE, false);
+        if (reader == null) {
+            close();
+        } else if (channel.isOpen()) {
+            channel.shutdownOutput();
+        }
+    }
+
+    @Override
+    public void fail(Throwable error) {
+        close();
+        SocketReader r = reader;
+        SocketWriter w = writer;
+        reader = null;
+        writer = null;
+        if (r != null) {
+            r.fail(error);
+        }
+        if (w != null) {
+            w.fail();
+        }
+    }
+
+    private void close() {
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // соединение всё равно больше не используется
+        }
+    }
+}
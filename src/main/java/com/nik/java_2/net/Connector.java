@@ -0,0 +1,111 @@
+package com.nik.java_2.net;
+
+import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.ObservableEmitter;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Источник одного исходящего соединения: неблокирующее подключение с ожиданием OP_CONNECT.
+ * Отмена подписки до завершения подключения закрывает канал.
+ */
+final class Connector implements SelectorLoop.Handler, Disposable {
+    private final SelectorLoop loop;
+    private final SocketAddress address;
+    private final ObservableEmitter<SocketChannel> downstream;
+    private SocketChannel channel;
+    private SelectionKey key;
+    private boolean connected;
+    private volatile boolean disposed;
+
+    Connector(SelectorLoop loop, SocketAddress address, ObservableEmitter<SocketChannel> downstream) {
+        this.loop = loop;
+        this.address = address;
+        this.downstream = downstream;
+    }
+
+    void start() {
+        downstream.setDisposable(this);
+        try {
+            loop.execute(this::attach);
+        } catch (RejectedExecutionException e) {
+            downstream.onError(e);
+        }
+    }
+
+    private void attach() {
+        if (disposed) {
+            return;
+        }
+        try {
+            channel = SocketChannel.open();
+            key = loop.register(channel, this);
+            if (channel.connect(address)) {
+                finish();
+            } else {
+                key.interestOps(SelectionKey.OP_CONNECT);
+            }
+        } catch (IOException | RuntimeException e) {
+            fail(e);
+        }
+    }
+
+    @Override
+    public void ready(SelectionKey key) throws IOException {
+        if (channel.finishConnect()) {
+            finish();
+        }
+    }
+
+    private void finish() {
+        key.interestOps(0);
+        connected = true;
+        downstream.onNext(channel);
+        downstream.onComplete();
+    }
+
+    @Override
+    public void fail(Throwable error) {
+        close();
+        downstream.onError(error);
+    }
+
+    private void close() {
+        if (key != null) {
+            key.cancel();
+        }
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // подключение не состоялось, закрывать больше нечего
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (disposed) {
+            return;
+        }
+        disposed = true;
+        try {
+            loop.execute(() -> {
+                if (!connected) {
+                    close();
+                }
+            });
+        } catch (RejectedExecutionException ignored) {
+            // цикл остановлен и уже закрыл канал
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+}
@@ -0,0 +1,214 @@
+package com.nik.java_2.net;
+
+import com.nik.java_2.internal.MpscLinkedQueue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Цикл событий на одном {@link Selector}, обслуживающий любое число неблокирующих каналов одним потоком.
+ * Вся работа с каналами, ключами выбора и буферами выполняется в потоке цикла;
+ * другие потоки передают её через {@link #execute(Runnable)}.
+ * Чтение всех соединений цикла идёт в один прямой буфер, который переиспользуется между чтениями.
+ */
+public final class SelectorLoop {
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+    private static volatile SelectorLoop shared;
+
+    private final Selector selector;
+    private final Thread thread;
+    private final MpscLinkedQueue<Runnable> tasks = new MpscLinkedQueue<>();
+    private final AtomicBoolean wakeup = new AtomicBoolean();
+    private final ByteBuffer readBuffer;
+    private final int bufferSize;
+    private volatile boolean shutdown;
+
+    public SelectorLoop() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param bufferSize размер прямых буферов чтения и записи в байтах
+     */
+    public SelectorLoop(int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize > 0 required but it was " + bufferSize);
+        }
+        try {
+            this.selector = Selector.open();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.bufferSize = bufferSize;
+        this.readBuffer = ByteBuffer.allocateDirect(bufferSize);
+        this.thread = new Thread(this::run, "rx-selector-" + COUNTER.incrementAndGet());
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * @return общий цикл, создаваемый при первом обращении
+     */
+    public static SelectorLoop shared() {
+        SelectorLoop loop = shared;
+        if (loop == null) {
+            synchronized (SelectorLoop.class) {
+                loop = shared;
+                if (loop == null) {
+                    loop = new SelectorLoop();
+                    shared = loop;
+                }
+            }
+        }
+        return loop;
+    }
+
+    /**
+     * Выполняет задачу в потоке цикла. Задачи выполняются по порядку поступления
+     * между обработкой готовых каналов.
+     */
+    public void execute(Runnable task) {
+        if (shutdown) {
+            throw new RejectedExecutionException("SelectorLoop is shut down");
+        }
+        tasks.offer(task);
+        if (!inLoop() && wakeup.compareAndSet(false, true)) {
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * Останавливает цикл. Открытые каналы закрываются, их источники получают onError.
+     */
+    public void shutdown() {
+        shutdown = true;
+        selector.wakeup();
+    }
+
+    /**
+     * Ожидает остановки цикла после {@link #shutdown()}.
+     *
+     * @return true, если цикл остановился до истечения таймаута
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        TimeUnit.MILLISECONDS.timedJoin(thread, unit.toMillis(timeout));
+        return !thread.isAlive();
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    boolean inLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    ByteBuffer readBuffer() {
+        return readBuffer;
+    }
+
+    int bufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Регистрирует канал в селекторе без интересующих операций. Вызывается в потоке цикла.
+     */
+    SelectionKey register(SelectableChannel channel, Handler handler) throws IOException {
+        channel.configureBlocking(false);
+        return channel.register(selector, 0, handler);
+    }
+
+    /**
+     * Возвращает соединение канала, создавая его при первом обращении.
+     * Источник и приёмник одного канала делят одно соединение и один ключ выбора.
+     * Вызывается в потоке цикла.
+     */
+    Connection connection(SocketChannel channel) throws IOException {
+        SelectionKey key = channel.keyFor(selector);
+        if (key != null && key.attachment() instanceof Connection connection) {
+            return connection;
+        }
+        if (!channel.isOpen()) {
+            throw new ClosedChannelException();
+        }
+        Connection connection = new Connection(channel);
+        connection.key = key != null ? key : register(channel, connection);
+        connection.key.attach(connection);
+        return connection;
+    }
+
+    private void run() {
+        try {
+            while (!shutdown) {
+                wakeup.set(false);
+                runTasks();
+                selector.select();
+                Iterator<SelectionKey> selected = selector.selectedKeys().iterator();
+                while (selected.hasNext()) {
+                    SelectionKey key = selected.next();
+                    selected.remove();
+                    Handler handler = (Handler) key.attachment();
+                    try {
+                        if (key.isValid()) {
+                            handler.ready(key);
+                        }
+                    } catch (Throwable throwable) {
+                        handler.fail(throwable);
+                    }
+                }
+            }
+        } catch (Throwable throwable) {
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+        } finally {
+            close();
+        }
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (Throwable throwable) {
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+            }
+        }
+    }
+
+    private void close() {
+        shutdown = true;
+        IOException closed = new IOException("SelectorLoop is shut down");
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof Handler handler) {
+                handler.fail(closed);
+            }
+        }
+        try {
+            selector.close();
+        } catch (IOException ignored) {
+            // все каналы уже закрыты
+        }
+    }
+
+    /**
+     * Обработчик готовности канала, хранящийся во вложении ключа выбора.
+     * Оба метода вызываются в потоке цикла.
+     */
+    interface Handler {
+        void ready(SelectionKey key) throws IOException;
+        void fail(Throwable error);
+    }
+}
@@ -0,0 +1,105 @@
+package com.nik.java_2.net;
+
+import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.ObservableEmitter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Источник данных канала: при готовности к чтению читает в общий буфер цикла
+ * и передаёт его получателю. За одно событие выполняется не больше {@link #MAX_READS_PER_EVENT} чтений,
+ * чтобы быстрое соединение не задерживало остальные соединения цикла.
+ */
+final class SocketReader implements Disposable {
+    private static final int MAX_READS_PER_EVENT = 16;
+
+    private final SelectorLoop loop;
+    private final SocketChannel channel;
+    private final ObservableEmitter<ByteBuffer> downstream;
+    private Connection connection;
+    private volatile boolean disposed;
+
+    SocketReader(SelectorLoop loop, SocketChannel channel, ObservableEmitter<ByteBuffer> downstream) {
+        this.loop = loop;
+        this.channel = channel;
+        this.downstream = downstream;
+    }
+
+    void start() {
+        downstream.setDisposable(this);
+        try {
+            loop.execute(this::attach);
+        } catch (RejectedExecutionException e) {
+            downstream.onError(e);
+        }
+    }
+
+    private void attach() {
+        if (disposed) {
+            return;
+        }
+        try {
+            Connection c = loop.connection(channel);
+            if (c.reader != null) {
+                throw new IllegalStateException("Channel is already read by another subscriber");
+            }
+            c.reader = this;
+            c.interest(SelectionKey.OP_READ, true);
+            connection = c;
+        } catch (IOException | RuntimeException e) {
+            downstream.onError(e);
+        }
+    }
+
+    void read() throws IOException {
+        ByteBuffer buffer = loop.readBuffer();
+        for (int i = 0; i < MAX_READS_PER_EVENT; i++) {
+            buffer.clear();
+            int read = channel.read(buffer);
+            if (read == 0) {
+                return;
+            }
+            if (read < 0) {
+                connection.readerDone(this);
+                downstream.onComplete();
+                return;
+            }
+            buffer.flip();
+            downstream.onNext(buffer);
+            if (disposed) {
+                connection.readerDone(this);
+                return;
+            }
+        }
+    }
+
+    void fail(Throwable error) {
+        downstream.onError(error);
+    }
+
+    @Override
+    public void dispose() {
+        if (disposed) {
+            return;
+        }
+        disposed = true;
+        try {
+            loop.execute(() -> {
+                if (connection != null) {
+                    connection.readerDone(this);
+                }
+            });
+        } catch (RejectedExecutionException ignored) {
+            // цикл остановлен и уже закрыл канал
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+}
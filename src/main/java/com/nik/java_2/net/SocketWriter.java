@@ -0,0 +1,193 @@
+package com.nik.java_2.net;
+
+import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.Observer;
+import com.nik.java_2.internal.DisposableResource;
+import com.nik.java_2.internal.MpscLinkedQueue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Приёмник, записывающий полученные буферы в канал.
+ * Данные собираются в собственный прямой буфер приёмника и пишутся в канал в потоке цикла;
+ * несколько мелких onNext за один проход цикла уходят одной записью.
+ * Если сокет не принимает данные, приёмник подписывается на готовность к записи
+ * и продолжает, когда селектор сообщит о ней, а до этого копит данные в очереди.
+ * Буфер из onNext копируется сразу, поэтому получатель может переиспользовать его после вызова.
+ */
+final class SocketWriter implements Observer<ByteBuffer> {
+    private final SelectorLoop loop;
+    private final SocketChannel channel;
+    private final MpscLinkedQueue<ByteBuffer> pending = new MpscLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final DisposableResource upstream = new DisposableResource();
+    private final ByteBuffer out;
+    private ByteBuffer current;
+    private Connection connection;
+    private boolean waitingForWrite;
+    private volatile boolean completed;
+    private volatile boolean failed;
+
+    SocketWriter(SelectorLoop loop, SocketChannel channel) {
+        this.loop = loop;
+        this.channel = channel;
+        this.out = ByteBuffer.allocateDirect(loop.bufferSize());
+    }
+
+    void start() {
+        try {
+            loop.execute(this::attach);
+        } catch (RejectedExecutionException e) {
+            fail();
+        }
+    }
+
+    private void attach() {
+        try {
+            Connection c = loop.connection(channel);
+            if (c.writer != null) {
+                throw new IllegalStateException("Channel is already written by another observer");
+            }
+            c.writer = this;
+            connection = c;
+            flush();
+        } catch (IOException | RuntimeException e) {
+            if (connection != null) {
+                connection.fail(e);
+            } else {
+                fail();
+            }
+        }
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        upstream.setDisposable(d);
+    }
+
+    @Override
+    public void onNext(ByteBuffer item) {
+        if (failed) {
+            return;
+        }
+        if (loop.inLoop() && connection != null && current == null && pending.isEmpty()
+                && item.remaining() <= out.remaining()) {
+            put(item);
+        } else {
+            pending.offer(ByteBuffer.allocate(item.remaining()).put(item.duplicate()).flip());
+        }
+        scheduleFlush();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        failed = true;
+        try {
+            loop.execute(() -> {
+                if (connection != null) {
+                    connection.fail(t);
+                }
+            });
+        } catch (RejectedExecutionException ignored) {
+            // цикл остановлен и уже закрыл канал
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        completed = true;
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            try {
+                loop.execute(() -> {
+                    flushScheduled.set(false);
+                    try {
+                        flush();
+                    } catch (Throwable throwable) {
+                        if (connection != null) {
+                            connection.fail(throwable);
+                        }
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                fail();
+            }
+        }
+    }
+
+    /**
+     * Пишет накопленные данные, пока сокет их принимает. Вызывается в потоке цикла.
+     */
+    void flush() throws IOException {
+        Connection c = connection;
+        if (c == null) {
+            return;
+        }
+        boolean done = completed;
+        for (;;) {
+            fill();
+            out.flip();
+            if (out.hasRemaining()) {
+                channel.write(out);
+            }
+            boolean blocked = out.hasRemaining();
+            out.compact();
+            if (blocked) {
+                if (!waitingForWrite) {
+                    waitingForWrite = true;
+                    c.interest(SelectionKey.OP_WRITE, true);
+                }
+                return;
+            }
+            if (current == null && pending.isEmpty()) {
+                break;
+            }
+        }
+        if (waitingForWrite) {
+            waitingForWrite = false;
+            c.interest(SelectionKey.OP_WRITE, false);
+        }
+        if (done) {
+            connection = null;
+            c.writerDone(this);
+        }
+    }
+
+    private void fill() {
+        while (out.hasRemaining()) {
+            if (current == null && (current = pending.poll()) == null) {
+                return;
+            }
+            int length = Math.min(current.remaining(), out.remaining());
+            out.put(out.position(), current, current.position(), length);
+            out.position(out.position() + length);
+            current.position(current.position() + length);
+            if (!current.hasRemaining()) {
+                current = null;
+            }
+        }
+    }
+
+    private void put(ByteBuffer item) {
+        int length = item.remaining();
+        out.put(out.position(), item, item.position(), length);
+        out.position(out.position() + length);
+    }
+
+    /**
+     * Соединение закрыто из-за ошибки: дальнейшие данные отбрасываются, подписка на источник отменяется.
+     */
+    void fail() {
+        failed = true;
+        connection = null;
+        upstream.dispose();
+    }
+}
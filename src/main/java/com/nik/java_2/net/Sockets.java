@@ -0,0 +1,89 @@
+package com.nik.java_2.net;
+
+import com.nik.java_2.Observable;
+import com.nik.java_2.interfaces.Observer;
+
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Источники и приёмники Observable для TCP-сокетов на неблокирующих каналах.
+ * Все каналы обслуживаются циклом {@link SelectorLoop}, так что один поток держит
+ * тысячи соединений вместо отдельного блокирующего потока на каждое.
+ * Методы без параметра цикла используют {@link SelectorLoop#shared()}.
+ */
+public final class Sockets {
+
+    private Sockets() {
+    }
+
+    public static Observable<SocketChannel> accept(ServerSocketChannel server) {
+        return accept(server, SelectorLoop.shared());
+    }
+
+    /**
+     * Создаёт Observable входящих соединений. Серверный канал должен быть уже привязан к адресу.
+     *
+     * @param server серверный канал
+     * @param loop цикл, обслуживающий канал
+     * @return Observable принятых неблокирующих каналов
+     */
+    public static Observable<SocketChannel> accept(ServerSocketChannel server, SelectorLoop loop) {
+        return Observable.create(emitter -> new Acceptor(loop, server, emitter).start());
+    }
+
+    public static Observable<SocketChannel> connect(SocketAddress address) {
+        return connect(address, SelectorLoop.shared());
+    }
+
+    /**
+     * Создаёт Observable, который подключается к адресу, выдаёт подключённый канал и завершается.
+     *
+     * @param address адрес сервера
+     * @param loop цикл, обслуживающий канал
+     * @return Observable из одного подключённого неблокирующего канала
+     */
+    public static Observable<SocketChannel> connect(SocketAddress address, SelectorLoop loop) {
+        return Observable.create(emitter -> new Connector(loop, address, emitter).start());
+    }
+
+    public static Observable<ByteBuffer> read(SocketChannel channel) {
+        return read(channel, SelectorLoop.shared());
+    }
+
+    /**
+     * Создаёт Observable данных, приходящих в канал. Данные выдаются в потоке цикла
+     * в общем прямом буфере цикла, который действителен только до возврата из onNext:
+     * для асинхронной обработки его нужно скопировать. Завершается, когда собеседник закрыл запись.
+     * У канала может быть только один подписчик на чтение.
+     *
+     * @param channel подключённый канал
+     * @param loop цикл, обслуживающий канал
+     * @return Observable прочитанных данных
+     */
+    public static Observable<ByteBuffer> read(SocketChannel channel, SelectorLoop loop) {
+        return Observable.create(emitter -> new SocketReader(loop, channel, emitter).start());
+    }
+
+    public static Observer<ByteBuffer> writer(SocketChannel channel) {
+        return writer(channel, SelectorLoop.shared());
+    }
+
+    /**
+     * Создаёт приёмник, записывающий данные в канал. onNext не блокируется: данные копируются
+     * и пишутся циклом по мере готовности сокета. onComplete дописывает данные и закрывает запись канала,
+     * onError закрывает соединение. Канал закрывается полностью, когда завершены и запись, и чтение.
+     * Если цикл уже остановлен, приёмник сразу отменяет подписку на источник и отбрасывает данные.
+     *
+     * @param channel подключённый канал
+     * @param loop цикл, обслуживающий канал
+     * @return приёмник данных канала
+     */
+    public static Observer<ByteBuffer> writer(SocketChannel channel, SelectorLoop loop) {
+        SocketWriter writer = new SocketWriter(loop, channel);
+        writer.start();
+        return writer;
+    }
+}
@@ -0,0 +1,29 @@
+package com.nik.java_2.scheduler;
+
+import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.Scheduler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Базовый планировщик: отложенные и периодические задачи ведёт общий {@link HashedWheelTimer},
+ * а Worker по умолчанию — {@link SerialWorker} поверх {@link #execute(Runnable)}.
+ * Наследнику достаточно реализовать execute.
+ */
+public abstract class AbstractScheduler implements Scheduler {
+
+    @Override
+    public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+        return HashedWheelTimer.shared().schedule(this::execute, task, delay, unit);
+    }
+
+    @Override
+    public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        return HashedWheelTimer.shared().schedulePeriodically(this::execute, task, initialDelay, period, unit);
+    }
+
+    @Override
+    public Worker createWorker() {
+        return new SerialWorker(this);
+    }
+}
@@ -1,17 +1,14 @@
 package com.nik.java_2.scheduler;
 
-import com.nik.java_2.interfaces.Scheduler;
-
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
-public class ComputationScheduler implements Scheduler {
-    private final ExecutorService executor = Executors.newFixedThreadPool(
-            Runtime.getRuntime().availableProcessors()
-    );
+public class ComputationScheduler extends ExecutorScheduler {
+
+    public ComputationScheduler() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
 
-    @Override
-    public void execute(Runnable task) {
-        executor.submit(task);
+    public ComputationScheduler(int threads) {
+        super(Executors.newFixedThreadPool(threads, new NamedThreadFactory("rx-computation")));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,202 @@
+package com.nik.java_2.scheduler;
+
+import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.internal.MpscLinkedQueue;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Планировщик из N однопоточных циклов событий, каждый со своей очередью задач.
+ * В отличие от общего пула с единой очередью, потоки не конкурируют за одну очередь,
+ * а Worker закрепляется за одним циклом, поэтому состояние подписки
+ * остаётся в кэше одного ядра и задачи Worker выполняются по порядку без дополнительной синхронизации.
+ */
+public class EventLoopScheduler extends AbstractScheduler implements Terminable {
+
+    /**
+     * Способ выбора цикла для нового Worker.
+     */
+    public enum Assignment {
+        /** Циклы назначаются по кругу. */
+        ROUND_ROBIN,
+        /** Выбирается цикл с наименьшим числом активных Worker. */
+        LEAST_LOADED
+    }
+
+    private final EventLoop[] loops;
+    private final Assignment assignment;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile boolean shutdown;
+
+    public EventLoopScheduler() {
+        this(Runtime.getRuntime().availableProcessors(), Assignment.ROUND_ROBIN);
+    }
+
+    public EventLoopScheduler(int loopCount, Assignment assignment) {
+        if (loopCount <= 0) {
+            throw new IllegalArgumentException("loopCount > 0 required but it was " + loopCount);
+        }
+        this.assignment = assignment;
+        this.loops = new EventLoop[loopCount];
+        NamedThreadFactory threadFactory = new NamedThreadFactory("rx-event-loop");
+        for (int i = 0; i < loopCount; i++) {
+            loops[i] = new EventLoop(threadFactory);
+        }
+    }
+
+    /**
+     * Выполняет задачу на одном из циклов, выбираемых по кругу.
+     */
+    @Override
+    public void execute(Runnable task) {
+        nextLoop().execute(task);
+    }
+
+    @Override
+    public Worker createWorker() {
+        EventLoop loop = assignment == Assignment.LEAST_LOADED ? leastLoadedLoop() : nextLoop();
+        return new EventLoopWorker(loop);
+    }
+
+    private EventLoop nextLoop() {
+        return loops[Math.floorMod(next.getAndIncrement(), loops.length)];
+    }
+
+    private EventLoop leastLoadedLoop() {
+        EventLoop best = loops[0];
+        int bestLoad = best.workers.get();
+        for (int i = 1; i < loops.length && bestLoad > 0; i++) {
+            int load = loops[i].workers.get();
+            if (load < bestLoad) {
+                best = loops[i];
+                bestLoad = load;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Прекращает приём новых задач. Уже поставленные в очереди задачи будут выполнены.
+     */
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        for (EventLoop loop : loops) {
+            LockSupport.unpark(loop.thread);
+        }
+    }
+
+    /**
+     * Ожидает выполнения всех поставленных задач после {@link #shutdown()}.
+     *
+     * @return true, если все циклы завершились до истечения таймаута
+     */
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (EventLoop loop : loops) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return !loop.thread.isAlive();
+            }
+            TimeUnit.NANOSECONDS.timedJoin(loop.thread, remaining);
+            if (loop.thread.isAlive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    private final class EventLoop implements Runnable {
+        private final MpscLinkedQueue<Runnable> queue = new MpscLinkedQueue<>();
+        private final AtomicInteger workers = new AtomicInteger();
+        private final Thread thread;
+        private volatile boolean parked;
+
+        EventLoop(NamedThreadFactory threadFactory) {
+            this.thread = threadFactory.newThread(this);
+            this.thread.start();
+        }
+
+        void execute(Runnable task) {
+            if (shutdown) {
+                throw new RejectedExecutionException("EventLoopScheduler is shut down");
+            }
+            queue.offer(task);
+            if (parked) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        @Override
+        public void run() {
+            for (;;) {
+                Runnable task = queue.poll();
+                if (task != null) {
+                    try {
+                        task.run();
+                    } catch (Throwable throwable) {
+                        thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+                    }
+                    continue;
+                }
+                if (shutdown) {
+                    if (queue.isEmpty()) {
+                        return;
+                    }
+                    continue;
+                }
+                parked = true;
+                if (queue.isEmpty() && !shutdown) {
+                    LockSupport.park(this);
+                }
+                parked = false;
+            }
+        }
+    }
+
+    /**
+     * Worker, закреплённый за одним циклом. После dispose новые задачи не принимаются.
+     */
+    private static final class EventLoopWorker implements Worker {
+        private final EventLoop loop;
+        private final AtomicBoolean disposed = new AtomicBoolean();
+
+        EventLoopWorker(EventLoop loop) {
+            this.loop = loop;
+            loop.workers.incrementAndGet();
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            if (!disposed.get()) {
+                loop.execute(task);
+            }
+        }
+
+        @Override
+        public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+            return HashedWheelTimer.shared().schedule(this::execute, task, delay, unit);
+        }
+
+        @Override
+        public void dispose() {
+            if (disposed.compareAndSet(false, true)) {
+                loop.workers.decrementAndGet();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed.get();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.nik.java_2.scheduler;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Базовый планировщик поверх ExecutorService с корректным завершением работы.
+ */
+public abstract class ExecutorScheduler extends AbstractScheduler implements Terminable {
+    protected final ExecutorService executor;
+
+    protected ExecutorScheduler(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    /**
+     * Прекращает приём новых задач. Уже поставленные в очередь задачи будут выполнены.
+     */
+    @Override
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Ожидает выполнения всех поставленных задач после {@link #shutdown()}.
+     *
+     * @return true, если все задачи завершились до истечения таймаута
+     */
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+}
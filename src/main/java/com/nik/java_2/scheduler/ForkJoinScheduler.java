@@ -0,0 +1,73 @@
+package com.nik.java_2.scheduler;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Планировщик для CPU-bound задач на основе ForkJoinPool с перехватом работы (work stealing).
+ * Задача, поставленная из потока самого пула, попадает в его локальную очередь,
+ * а простаивающие потоки забирают задачи из очередей других потоков.
+ * Пул работает в асинхронном режиме (FIFO для локальных очередей), как требуется для событийных задач.
+ * Исключение задачи передаётся обработчику необработанных исключений потока
+ * независимо от того, попала задача в локальную очередь или во внешнюю.
+ */
+public class ForkJoinScheduler extends ExecutorScheduler {
+
+    public ForkJoinScheduler() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ForkJoinScheduler(int parallelism) {
+        this(parallelism, null);
+    }
+
+    /**
+     * @param parallelism число потоков пула
+     * @param handler обработчик исключений задач; null — обработчик потока по умолчанию
+     */
+    public ForkJoinScheduler(int parallelism, Thread.UncaughtExceptionHandler handler) {
+        super(new ForkJoinPool(parallelism, new NamedWorkerThreadFactory("rx-forkjoin"), handler, true));
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Runnable reporting = () -> run(task);
+        if (Thread.currentThread() instanceof ForkJoinWorkerThread thread && thread.getPool() == executor) {
+            ForkJoinTask.adapt(reporting).fork();
+            return;
+        }
+        executor.execute(reporting);
+    }
+
+    /**
+     * Выполняет задачу, передавая её исключение обработчику потока: иначе исключение
+     * задачи из локальной очереди осталось бы в ForkJoinTask, который никто не ожидает.
+     */
+    private static void run(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable throwable) {
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+        }
+    }
+
+    private static final class NamedWorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+        private final String prefix;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        NamedWorkerThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.nik.java_2.scheduler;
+
+import com.nik.java_2.interfaces.Disposable;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Таймер на основе хэшированного колеса времени.
+ * Отложенные задачи раскладываются по ячейкам колеса (связные списки) по номеру тика,
+ * поэтому добавление и отмена стоят O(1), а миллионы ожидающих таймеров
+ * не требуют упорядоченной по времени кучи, как в ScheduledThreadPoolExecutor.
+ * Колесо обслуживает один поток-демон, который при наступлении срока
+ * лишь передаёт задачу на выполнение в целевой {@link Executor} — обычно метод execute планировщика или Worker.
+ * Точность срабатывания ограничена длительностью тика.
+ */
+public final class HashedWheelTimer {
+    private static final HashedWheelTimer SHARED = new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 512);
+    private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startTime = System.nanoTime();
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile Thread worker;
+    private volatile boolean idle;
+    private long activeTimeouts;
+
+    /**
+     * @param tickDuration длительность одного тика
+     * @param unit единица измерения tickDuration
+     * @param ticksPerWheel число ячеек колеса, округляется вверх до степени двойки
+     */
+    public HashedWheelTimer(long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration > 0 required but it was " + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > (1 << 30)) {
+            throw new IllegalArgumentException("ticksPerWheel must be in (0, 2^30] but it was " + ticksPerWheel);
+        }
+        int size = ticksPerWheel == 1 ? 1 : Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * @return общий таймер с тиком 1 мс, используемый планировщиками
+     */
+    public static HashedWheelTimer shared() {
+        return SHARED;
+    }
+
+    /**
+     * Выполняет задачу на заданном исполнителе после задержки.
+     *
+     * @return Disposable для отмены задачи
+     */
+    public Disposable schedule(Executor target, Runnable task, long delay, TimeUnit unit) {
+        ScheduledTask scheduled = new ScheduledTask(target, task, 0L);
+        scheduled.timeout = newTimeout(scheduled, unit.toNanos(delay));
+        return scheduled;
+    }
+
+    /**
+     * Периодически выполняет задачу на заданном исполнителе с фиксированной частотой.
+     * Следующий запуск планируется только после завершения предыдущего,
+     * поэтому запуски одной задачи не перекрываются.
+     *
+     * @return Disposable для отмены всех последующих запусков
+     */
+    public Disposable schedulePeriodically(Executor target, Runnable task,
+                                           long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period > 0 required but it was " + period);
+        }
+        ScheduledTask scheduled = new ScheduledTask(target, task, unit.toNanos(period));
+        long delayNanos = unit.toNanos(initialDelay);
+        scheduled.nextDeadline = System.nanoTime() + delayNanos;
+        scheduled.timeout = newTimeout(scheduled, delayNanos);
+        return scheduled;
+    }
+
+    /**
+     * Регистрирует действие, которое будет выполнено прямо в потоке таймера.
+     * Действие должно быть коротким и не блокирующим.
+     */
+    Timeout newTimeout(Runnable action, long delayNanos) {
+        if (started.compareAndSet(false, true)) {
+            Thread thread = new Thread(this::run, "rx-timer");
+            thread.setDaemon(true);
+            worker = thread;
+            thread.start();
+        }
+        long deadline = System.nanoTime() - startTime + Math.max(0L, delayNanos);
+        Timeout timeout = new Timeout(action, deadline);
+        pending.offer(timeout);
+        if (idle) {
+            LockSupport.unpark(worker);
+        }
+        return timeout;
+    }
+
+    private void run() {
+        long tick = 0;
+        for (;;) {
+            if (activeTimeouts == 0 && pending.isEmpty()) {
+                idle = true;
+                if (pending.isEmpty()) {
+                    LockSupport.park(this);
+                }
+                idle = false;
+                tick = (System.nanoTime() - startTime) / tickNanos;
+                continue;
+            }
+            long tickDeadline = tickNanos * (tick + 1);
+            long sleepNanos = tickDeadline - (System.nanoTime() - startTime);
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+            transferPending(tick);
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void transferPending(long tick) {
+        for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+            Timeout timeout = pending.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.cancelled) {
+                continue;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            long targetTick = Math.max(calculated, tick);
+            wheel[(int) (targetTick & mask)].add(timeout);
+            activeTimeouts++;
+        }
+    }
+
+    private void expire(Bucket bucket) {
+        Timeout timeout = bucket.head;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.cancelled) {
+                bucket.remove(timeout);
+                activeTimeouts--;
+            } else if (timeout.remainingRounds <= 0) {
+                bucket.remove(timeout);
+                activeTimeouts--;
+                try {
+                    timeout.action.run();
+                } catch (Throwable throwable) {
+                    Thread current = Thread.currentThread();
+                    current.getUncaughtExceptionHandler().uncaughtException(current, throwable);
+                }
+            } else {
+                timeout.remainingRounds--;
+            }
+            timeout = next;
+        }
+    }
+
+    /**
+     * Отложенное действие в ячейке колеса.
+     */
+    static final class Timeout implements Disposable {
+        final Runnable action;
+        final long deadline;
+        long remainingRounds;
+        Timeout prev;
+        Timeout next;
+        volatile boolean cancelled;
+
+        Timeout(Runnable action, long deadline) {
+            this.action = action;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void dispose() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return cancelled;
+        }
+    }
+
+    /**
+     * Ячейка колеса: двусвязный список таймеров, доступный только потоку таймера.
+     */
+    private static final class Bucket {
+        Timeout head;
+        Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+        }
+    }
+
+    /**
+     * Задача планировщика: по срабатыванию таймера передаётся в целевой Executor,
+     * а периодическая после выполнения регистрирует следующий таймер.
+     */
+    private final class ScheduledTask implements Runnable, Disposable {
+        private final Executor target;
+        private final Runnable task;
+        private final long periodNanos;
+        private final Runnable dispatch = this::dispatch;
+        long nextDeadline;
+        volatile Timeout timeout;
+        private volatile boolean disposed;
+
+        ScheduledTask(Executor target, Runnable task, long periodNanos) {
+            this.target = target;
+            this.task = task;
+            this.periodNanos = periodNanos;
+        }
+
+        @Override
+        public void run() {
+            target.execute(dispatch);
+        }
+
+        private void dispatch() {
+            if (disposed) {
+                return;
+            }
+            if (periodNanos == 0L) {
+                disposed = true;
+                task.run();
+                return;
+            }
+            try {
+                task.run();
+            } catch (Throwable throwable) {
+                disposed = true;
+                throw throwable;
+            }
+            if (!disposed) {
+                nextDeadline += periodNanos;
+                timeout = newTimeout(this, nextDeadline - System.nanoTime());
+                if (disposed) {
+                    timeout.dispose();
+                }
+            }
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+            Timeout current = timeout;
+            if (current != null) {
+                current.dispose();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
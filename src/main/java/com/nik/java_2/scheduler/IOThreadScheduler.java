@@ -1,15 +1,10 @@
 package com.nik.java_2.scheduler;
 
-import com.nik.java_2.interfaces.Scheduler;
-
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
-public class IOThreadScheduler implements Scheduler {
-    private final ExecutorService executor = Executors.newCachedThreadPool();
+public class IOThreadScheduler extends ExecutorScheduler {
 
-    @Override
-    public void execute(Runnable task) {
-        executor.submit(task);
+    public IOThreadScheduler() {
+        super(Executors.newCachedThreadPool(new NamedThreadFactory("rx-io")));
     }
 }
@@ -0,0 +1,151 @@
+package com.nik.java_2.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Реестр общих экземпляров планировщиков.
+ * Каждый планировщик создаётся при первом обращении и переиспользуется всеми вызывающими,
+ * поэтому число потоков в приложении остаётся ограниченным.
+ * После {@link #shutdown()} следующее обращение создаёт новый экземпляр.
+ */
+public final class Schedulers {
+    private static ComputationScheduler computation;
+    private static IOThreadScheduler io;
+    private static SingleScheduler single;
+    private static VirtualThreadScheduler virtual;
+    private static ForkJoinScheduler forkJoin;
+    private static EventLoopScheduler eventLoop;
+    private static final List<Terminable> terminating = new ArrayList<>();
+
+    private Schedulers() {
+    }
+
+    /**
+     * @return общий планировщик для CPU-bound задач
+     */
+    public static synchronized ComputationScheduler computation() {
+        if (computation == null) {
+            computation = new ComputationScheduler();
+        }
+        return computation;
+    }
+
+    /**
+     * @return общий планировщик для операций ввода-вывода
+     */
+    public static synchronized IOThreadScheduler io() {
+        if (io == null) {
+            io = new IOThreadScheduler();
+        }
+        return io;
+    }
+
+    /**
+     * @return общий однопоточный планировщик
+     */
+    public static synchronized SingleScheduler single() {
+        if (single == null) {
+            single = new SingleScheduler();
+        }
+        return single;
+    }
+
+    /**
+     * @return общий планировщик на виртуальных потоках для блокирующих операций
+     */
+    public static synchronized VirtualThreadScheduler virtual() {
+        if (virtual == null) {
+            virtual = new VirtualThreadScheduler();
+        }
+        return virtual;
+    }
+
+    /**
+     * @return общий планировщик с перехватом работы для мелких CPU-bound задач
+     */
+    public static synchronized ForkJoinScheduler forkJoin() {
+        if (forkJoin == null) {
+            forkJoin = new ForkJoinScheduler();
+        }
+        return forkJoin;
+    }
+
+    /**
+     * @return общий планировщик из однопоточных циклов событий по числу ядер
+     */
+    public static synchronized EventLoopScheduler eventLoop() {
+        if (eventLoop == null) {
+            eventLoop = new EventLoopScheduler();
+        }
+        return eventLoop;
+    }
+
+    /**
+     * Прекращает приём новых задач всеми общими планировщиками.
+     * Уже поставленные задачи будут выполнены.
+     */
+    public static void shutdown() {
+        for (Terminable scheduler : release()) {
+            scheduler.shutdown();
+        }
+    }
+
+    /**
+     * Завершает общие планировщики и ожидает выполнения уже поставленных задач,
+     * в том числе у планировщиков, остановленных ранее через {@link #shutdown()}.
+     *
+     * @return true, если все планировщики завершились до истечения таймаута
+     */
+    public static boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        shutdown();
+        List<Terminable> schedulers;
+        synchronized (Schedulers.class) {
+            schedulers = new ArrayList<>(terminating);
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        boolean terminated = true;
+        for (Terminable scheduler : schedulers) {
+            long remaining = Math.max(0L, deadline - System.nanoTime());
+            if (scheduler.awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
+                synchronized (Schedulers.class) {
+                    terminating.remove(scheduler);
+                }
+            } else {
+                terminated = false;
+            }
+        }
+        return terminated;
+    }
+
+    private static synchronized List<Terminable> release() {
+        List<Terminable> schedulers = new ArrayList<>();
+        if (computation != null) {
+            schedulers.add(computation);
+            computation = null;
+        }
+        if (io != null) {
+            schedulers.add(io);
+            io = null;
+        }
+        if (single != null) {
+            schedulers.add(single);
+            single = null;
+        }
+        if (virtual != null) {
+            schedulers.add(virtual);
+            virtual = null;
+        }
+        if (forkJoin != null) {
+            schedulers.add(forkJoin);
+            forkJoin = null;
+        }
+        if (eventLoop != null) {
+            schedulers.add(eventLoop);
+            eventLoop = null;
+        }
+        terminating.addAll(schedulers);
+        return schedulers;
+    }
+}
@@ -0,0 +1,78 @@
+package com.nik.java_2.scheduler;
+
+import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.Scheduler;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Worker поверх произвольного планировщика: задачи складываются в собственную очередь
+ * и выполняются строго по одной в порядке поступления, при этом на планировщик
+ * одновременно передаётся не более одной задачи разбора очереди.
+ * Разные Worker одного многопоточного планировщика выполняются параллельно.
+ * Исключение задачи передаётся обработчику необработанных исключений потока
+ * и не останавливает разбор очереди.
+ */
+public final class SerialWorker implements Scheduler.Worker, Runnable {
+    private final Scheduler scheduler;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private volatile boolean disposed;
+
+    public SerialWorker(Scheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (disposed) {
+            return;
+        }
+        queue.offer(task);
+        if (wip.getAndIncrement() == 0) {
+            scheduler.execute(this);
+        }
+    }
+
+    @Override
+    public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+        return HashedWheelTimer.shared().schedule(this::execute, task, delay, unit);
+    }
+
+    @Override
+    public void run() {
+        int missed = 1;
+        for (;;) {
+            Runnable task;
+            while ((task = queue.poll()) != null) {
+                if (disposed) {
+                    queue.clear();
+                    return;
+                }
+                try {
+                    task.run();
+                } catch (Throwable throwable) {
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+                }
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+}
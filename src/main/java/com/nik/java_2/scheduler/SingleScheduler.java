@@ -1,15 +1,10 @@
 package com.nik.java_2.scheduler;
 
-import com.nik.java_2.interfaces.Scheduler;
-
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
-public class SingleScheduler implements Scheduler {
-    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+public class SingleScheduler extends ExecutorScheduler {
 
-    @Override
-    public void execute(Runnable task) {
-        executor.submit(task);
+    public SingleScheduler() {
+        super(Executors.newSingleThreadExecutor(new NamedThreadFactory("rx-single")));
     }
 }
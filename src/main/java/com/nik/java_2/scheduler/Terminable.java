@@ -0,0 +1,11 @@
+package com.nik.java_2.scheduler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Планировщик с собственными потоками, которые завершаются через {@link Schedulers#shutdown()}.
+ */
+interface Terminable {
+    void shutdown();
+    boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException;
+}
@@ -0,0 +1,50 @@
+package com.nik.java_2.scheduler;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Планировщик, запускающий каждую задачу в отдельном виртуальном потоке.
+ * Подходит для блокирующего ввода-вывода: ожидающая задача не занимает поток ОС.
+ * Необязательный лимит ограничивает число одновременно выполняемых задач,
+ * остальные ждут своей очереди, не занимая потоков платформы.
+ */
+public class VirtualThreadScheduler extends ExecutorScheduler {
+    private final Semaphore permits;
+
+    public VirtualThreadScheduler() {
+        this(0);
+    }
+
+    /**
+     * @param maxConcurrency максимальное число одновременно выполняемых задач, 0 — без ограничения
+     */
+    public VirtualThreadScheduler(int maxConcurrency) {
+        super(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("rx-virtual-", 1).factory()));
+        if (maxConcurrency < 0) {
+            throw new IllegalArgumentException("maxConcurrency >= 0 required but it was " + maxConcurrency);
+        }
+        this.permits = maxConcurrency == 0 ? null : new Semaphore(maxConcurrency, true);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (permits == null) {
+            executor.execute(task);
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+}
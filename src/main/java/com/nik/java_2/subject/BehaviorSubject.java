@@ -0,0 +1,169 @@
+package com.nik.java_2.subject;
+
+import com.nik.java_2.interfaces.ObservableEmitter;
+import com.nik.java_2.internal.MpscLinkedQueue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Subject, который хранит последний элемент и сразу передаёт его новому подписчику,
+ * а затем — все последующие события.
+ * Каждое значение получает порядковый номер, поэтому если подписка совпала по времени
+ * с новым элементом, подписчик не получит значение дважды и не получит более старое после нового.
+ *
+ * @param <T> тип элементов
+ */
+public final class BehaviorSubject<T> extends Subject<T> {
+    private volatile Value current;
+    private volatile Value terminal;
+    private long index;
+
+    private BehaviorSubject(Object initial) {
+        if (initial != null) {
+            current = new Value(initial, ++index);
+        }
+    }
+
+    /**
+     * @return новый BehaviorSubject без начального значения
+     */
+    public static <T> BehaviorSubject<T> create() {
+        return new BehaviorSubject<>(null);
+    }
+
+    /**
+     * @param defaultValue значение, которое получат подписчики до первого onNext
+     * @return новый BehaviorSubject с начальным значением
+     */
+    public static <T> BehaviorSubject<T> createDefault(T defaultValue) {
+        if (defaultValue == null) {
+            throw new NullPointerException("defaultValue is null");
+        }
+        return new BehaviorSubject<>(defaultValue);
+    }
+
+    /**
+     * @return последний элемент или null, если элементов не было или Subject завершён
+     */
+    @SuppressWarnings("unchecked")
+    public T getValue() {
+        Value value = current;
+        return value == null || terminal != null ? null : (T) value.item;
+    }
+
+    @Override
+    protected void subscribeActual(ObservableEmitter<T> emitter) {
+        BehaviorObserver<T> observer = new BehaviorObserver<>(emitter, this);
+        emitter.setDisposable(observer);
+        if (add(observer)) {
+            if (observer.isDisposed()) {
+                remove(observer);
+                return;
+            }
+            Value value = current;
+            if (value != null) {
+                observer.emit(value);
+            }
+        } else {
+            observer.emit(terminal);
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (terminal != null) {
+            return;
+        }
+        Value value = new Value(item, ++index);
+        current = value;
+        for (SubjectObserver<T> observer : observers()) {
+            ((BehaviorObserver<T>) observer).emit(value);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        terminate(new ErrorNotification(t));
+    }
+
+    @Override
+    public void onComplete() {
+        terminate(COMPLETE);
+    }
+
+    private void terminate(Object notification) {
+        if (terminal != null) {
+            return;
+        }
+        Value value = new Value(notification, Long.MAX_VALUE);
+        terminal = value;
+        for (SubjectObserver<T> observer : terminate()) {
+            ((BehaviorObserver<T>) observer).emit(value);
+        }
+    }
+
+    private static final class Value {
+        final Object item;
+        final long index;
+
+        Value(Object item, long index) {
+            this.item = item;
+            this.index = index;
+        }
+    }
+
+    /**
+     * Подписчик BehaviorSubject. Значения от Subject и начальное значение при подписке
+     * могут прийти из разных потоков, поэтому они проходят через очередь с единственным
+     * разбирающим потоком и отбрасываются, если их номер не больше уже выданного.
+     */
+    private static final class BehaviorObserver<T> extends SubjectObserver<T> {
+        private final MpscLinkedQueue<Value> queue = new MpscLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private long lastIndex;
+
+        BehaviorObserver(ObservableEmitter<T> downstream, BehaviorSubject<T> parent) {
+            super(downstream, parent);
+        }
+
+        void emit(Value value) {
+            if (wip.get() == 0 && wip.compareAndSet(0, 1)) {
+                deliver(value);
+                if (wip.decrementAndGet() == 0) {
+                    return;
+                }
+            } else {
+                queue.offer(value);
+                if (wip.getAndIncrement() != 0) {
+                    return;
+                }
+            }
+            int missed = 1;
+            for (;;) {
+                Value next;
+                while ((next = queue.poll()) != null) {
+                    deliver(next);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void deliver(Value value) {
+            if (value.index <= lastIndex || isDisposed()) {
+                return;
+            }
+            lastIndex = value.index;
+            if (value.item == COMPLETE) {
+                downstream.onComplete();
+            } else if (value.item instanceof ErrorNotification notification) {
+                downstream.onError(notification.error);
+            } else {
+                downstream.onNext((T) value.item);
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.nik.java_2.subject;
+
+import com.nik.java_2.interfaces.ObservableEmitter;
+
+/**
+ * Subject, который передаёт подписчику только события, произошедшие после подписки.
+ * Подписчик, пришедший после завершения, сразу получает завершающее событие.
+ *
+ * @param <T> тип элементов
+ */
+public final class PublishSubject<T> extends Subject<T> {
+    private volatile Throwable error;
+    private volatile boolean done;
+
+    private PublishSubject() {
+    }
+
+    /**
+     * @return новый PublishSubject без подписчиков
+     */
+    public static <T> PublishSubject<T> create() {
+        return new PublishSubject<>();
+    }
+
+    @Override
+    protected void subscribeActual(ObservableEmitter<T> emitter) {
+        SubjectObserver<T> observer = new SubjectObserver<>(emitter, this);
+        emitter.setDisposable(observer);
+        if (add(observer)) {
+            if (observer.isDisposed()) {
+                remove(observer);
+            }
+            return;
+        }
+        Throwable t = error;
+        if (t != null) {
+            emitter.onError(t);
+        } else {
+            emitter.onComplete();
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done) {
+            return;
+        }
+        for (SubjectObserver<T> observer : observers()) {
+            observer.downstream.onNext(item);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (done) {
+            return;
+        }
+        error = t;
+        done = true;
+        for (SubjectObserver<T> observer : terminate()) {
+            observer.downstream.onError(t);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        for (SubjectObserver<T> observer : terminate()) {
+            observer.downstream.onComplete();
+        }
+    }
+}
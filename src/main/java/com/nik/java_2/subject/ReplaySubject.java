@@ -0,0 +1,223 @@
+package com.nik.java_2.subject;
+
+import com.nik.java_2.interfaces.ObservableEmitter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Subject, который запоминает элементы и воспроизводит их каждому новому подписчику,
+ * а затем передаёт последующие события.
+ * Элементы хранятся в односвязном списке, в который пишет только поток Subject;
+ * каждый подписчик читает список со своего курсора без блокировок.
+ * Буфер может быть ограничен числом элементов и временем их хранения:
+ * устаревшие элементы отбрасываются с головы списка.
+ *
+ * @param <T> тип элементов
+ */
+public final class ReplaySubject<T> extends Subject<T> {
+    private final int maxSize;
+    private final long maxAgeNanos;
+    private volatile Node head;
+    private Node tail;
+    private int size;
+    private boolean done;
+
+    private ReplaySubject(int maxSize, long maxAgeNanos) {
+        this.maxSize = maxSize;
+        this.maxAgeNanos = maxAgeNanos;
+        Node sentinel = new Node(null, 0L);
+        this.head = sentinel;
+        this.tail = sentinel;
+    }
+
+    /**
+     * @return ReplaySubject, который хранит все элементы
+     */
+    public static <T> ReplaySubject<T> create() {
+        return new ReplaySubject<>(Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param maxSize максимальное число хранимых элементов
+     * @return ReplaySubject, который хранит только последние maxSize элементов
+     */
+    public static <T> ReplaySubject<T> createWithSize(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize > 0 required but it was " + maxSize);
+        }
+        return new ReplaySubject<>(maxSize, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param maxAge время хранения элемента
+     * @param unit единица измерения maxAge
+     * @return ReplaySubject, который хранит только элементы моложе maxAge
+     */
+    public static <T> ReplaySubject<T> createWithTime(long maxAge, TimeUnit unit) {
+        return createWithTimeAndSize(maxAge, unit, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maxAge время хранения элемента
+     * @param unit единица измерения maxAge
+     * @param maxSize максимальное число хранимых элементов
+     * @return ReplaySubject, ограниченный и по времени, и по числу элементов
+     */
+    public static <T> ReplaySubject<T> createWithTimeAndSize(long maxAge, TimeUnit unit, int maxSize) {
+        if (maxAge <= 0) {
+            throw new IllegalArgumentException("maxAge > 0 required but it was " + maxAge);
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize > 0 required but it was " + maxSize);
+        }
+        return new ReplaySubject<>(maxSize, unit.toNanos(maxAge));
+    }
+
+    @Override
+    protected void subscribeActual(ObservableEmitter<T> emitter) {
+        ReplayObserver<T> observer = new ReplayObserver<>(emitter, this);
+        emitter.setDisposable(observer);
+        if (add(observer) && observer.isDisposed()) {
+            remove(observer);
+            return;
+        }
+        replay(observer);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done) {
+            return;
+        }
+        append(item);
+        trim();
+        for (SubjectObserver<T> observer : observers()) {
+            replay((ReplayObserver<T>) observer);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        terminate(new ErrorNotification(t));
+    }
+
+    @Override
+    public void onComplete() {
+        terminate(COMPLETE);
+    }
+
+    private void terminate(Object notification) {
+        if (done) {
+            return;
+        }
+        done = true;
+        trim();
+        append(notification);
+        for (SubjectObserver<T> observer : terminate()) {
+            replay((ReplayObserver<T>) observer);
+        }
+    }
+
+    private void append(Object value) {
+        Node node = new Node(value, maxAgeNanos == Long.MAX_VALUE ? 0L : System.nanoTime());
+        tail.next = node;
+        tail = node;
+        size++;
+    }
+
+    private void trim() {
+        Node h = head;
+        while (size > maxSize) {
+            h = h.next;
+            size--;
+        }
+        if (maxAgeNanos != Long.MAX_VALUE) {
+            long limit = System.nanoTime() - maxAgeNanos;
+            Node next;
+            while ((next = h.next) != null && next.time - limit < 0) {
+                h = next;
+                size--;
+            }
+        }
+        head = h;
+    }
+
+    /**
+     * @return узел, после которого начинается воспроизведение для нового подписчика
+     */
+    private Node startNode() {
+        Node h = head;
+        if (maxAgeNanos != Long.MAX_VALUE) {
+            long limit = System.nanoTime() - maxAgeNanos;
+            Node next;
+            while ((next = h.next) != null && next.time - limit < 0
+                    && next.value != COMPLETE && !(next.value instanceof ErrorNotification)) {
+                h = next;
+            }
+        }
+        return h;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void replay(ReplayObserver<T> observer) {
+        if (observer.wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        for (;;) {
+            Node node = observer.cursor;
+            if (node == null) {
+                node = startNode();
+            }
+            for (;;) {
+                if (observer.isDisposed()) {
+                    observer.cursor = null;
+                    return;
+                }
+                Node next = node.next;
+                if (next == null) {
+                    break;
+                }
+                Object value = next.value;
+                if (value == COMPLETE) {
+                    observer.downstream.onComplete();
+                    observer.cursor = null;
+                    return;
+                }
+                if (value instanceof ErrorNotification notification) {
+                    observer.downstream.onError(notification.error);
+                    observer.cursor = null;
+                    return;
+                }
+                observer.downstream.onNext((T) value);
+                node = next;
+            }
+            observer.cursor = node;
+            missed = observer.wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private static final class Node {
+        final Object value;
+        final long time;
+        volatile Node next;
+
+        Node(Object value, long time) {
+            this.value = value;
+            this.time = time;
+        }
+    }
+
+    private static final class ReplayObserver<T> extends SubjectObserver<T> {
+        final AtomicInteger wip = new AtomicInteger();
+        Node cursor;
+
+        ReplayObserver(ObservableEmitter<T> downstream, ReplaySubject<T> parent) {
+            super(downstream, parent);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.nik.java_2.subject;
+
+import com.nik.java_2.Observable;
+import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.ObservableEmitter;
+import com.nik.java_2.interfaces.Observer;
+import com.nik.java_2.internal.SubscriberArray;
+
+/**
+ * Горячий источник, который одновременно является Observer и Observable:
+ * события, переданные в него, рассылаются всем текущим подписчикам,
+ * а подписка не запускает никакой повторной работы.
+ * Подписчики хранятся в {@link SubscriberArray}, поэтому рассылка — это простой цикл по массиву без блокировок.
+ * Методы Observer самого Subject должны вызываться последовательно.
+ *
+ * @param <T> тип элементов
+ */
+public abstract class Subject<T> extends Observable<T> implements Observer<T> {
+    static final Object COMPLETE = new Object();
+
+    private final SubscriberArray<SubjectObserver<T>> observers = new SubscriberArray<>(SubjectObserver::newArray);
+
+    /**
+     * @return true, если у Subject есть подписчики
+     */
+    public boolean hasObservers() {
+        return observers.get().length != 0;
+    }
+
+    SubjectObserver<T>[] observers() {
+        return observers.get();
+    }
+
+    /**
+     * Добавляет подписчика.
+     *
+     * @return false, если Subject уже завершён и подписчик не добавлен
+     */
+    boolean add(SubjectObserver<T> observer) {
+        return observers.add(observer);
+    }
+
+    void remove(SubjectObserver<T> observer) {
+        observers.remove(observer);
+    }
+
+    /**
+     * Переводит Subject в завершённое состояние.
+     *
+     * @return подписчики, которым нужно передать завершающее событие
+     */
+    SubjectObserver<T>[] terminate() {
+        return observers.terminate();
+    }
+
+    /**
+     * Подписка на Subject: связывает эмиттер подписчика с Subject
+     * и при отмене удаляет подписчика из массива.
+     */
+    static class SubjectObserver<T> implements Disposable {
+        final ObservableEmitter<T> downstream;
+        private final Subject<T> parent;
+        private volatile boolean disposed;
+
+        SubjectObserver(ObservableEmitter<T> downstream, Subject<T> parent) {
+            this.downstream = downstream;
+            this.parent = parent;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> SubjectObserver<T>[] newArray(int length) {
+            return (SubjectObserver<T>[]) new SubjectObserver<?>[length];
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                parent.remove(this);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+
+    static final class ErrorNotification {
+        final Throwable error;
+
+        ErrorNotification(Throwable error) {
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.nik.java_2;
+
+import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.ObservableEmitter;
+import com.nik.java_2.interfaces.Observer;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ConnectableObservableTest {
+
+    @Test
+    void publishShouldRunSourceOnceOnConnect() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Observer<Integer> first = mock(Observer.class);
+        Observer<Integer> second = mock(Observer.class);
+
+        ConnectableObservable<Integer> published = Observable.<Integer>create(obs -> {
+            subscriptions.incrementAndGet();
+            obs.onNext(1);
+            obs.onNext(2);
+            obs.onComplete();
+        }).publish();
+
+        published.map(value -> value * 10).subscribe(first);
+        published.subscribe(second);
+        assertEquals(0, subscriptions.get());
+
+        published.connect();
+
+        assertEquals(1, subscriptions.get());
+        verify(first).onNext(10);
+        verify(first).onNext(20);
+        verify(first).onComplete();
+        verify(second).onNext(1);
+        verify(second).onNext(2);
+        verify(second).onComplete();
+    }
+
+    @Test
+    void connectionDisposeShouldStopSource() {
+        ObservableEmitter<Integer>[] source = new ObservableEmitter[1];
+        Observer<Integer> observer = mock(Observer.class);
+        ConnectableObservable<Integer> published = Observable.<Integer>create(obs -> source[0] = obs).publish();
+
+        published.subscribe(observer);
+        Disposable connection = published.connect();
+        source[0].onNext(1);
+        connection.dispose();
+
+        assertTrue(source[0].isDisposed());
+        verify(observer).onNext(1);
+    }
+
+    @Test
+    void shareShouldDisconnectWhenLastSubscriberLeaves() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        ObservableEmitter<Integer>[] source = new ObservableEmitter[1];
+        Observer<Integer> first = mock(Observer.class);
+        Observer<Integer> second = mock(Observer.class);
+
+        Observable<Integer> shared = Observable.<Integer>create(obs -> {
+            subscriptions.incrementAndGet();
+            source[0] = obs;
+        }).share();
+
+        Disposable firstSubscription = shared.subscribe(first);
+        Disposable secondSubscription = shared.subscribe(second);
+        source[0].onNext(1);
+        firstSubscription.dispose();
+        source[0].onNext(2);
+        assertFalse(source[0].isDisposed());
+        secondSubscription.dispose();
+
+        assertEquals(1, subscriptions.get());
+        assertTrue(source[0].isDisposed());
+        verify(first, times(1)).onNext(any());
+        verify(second).onNext(1);
+        verify(second).onNext(2);
+
+        shared.subscribe(mock(Observer.class));
+        assertEquals(2, subscriptions.get());
+    }
+}
@@ -0,0 +1,78 @@
+package com.nik.java_2;
+
+import com.nik.java_2.interfaces.DoubleObserver;
+import com.nik.java_2.interfaces.Observer;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DoubleObservableTest {
+
+    @Test
+    void operatorsShouldWorkOnPrimitives() {
+        DoubleObserver observer = mock(DoubleObserver.class);
+
+        DoubleObservable.of(0.5, 1.5, -2.0, 3.0, 4.5)
+                .filter(value -> value > 0)
+                .map(value -> value * 2)
+                .limit(3)
+                .subscribe(observer);
+
+        verify(observer).onNext(1.0);
+        verify(observer).onNext(3.0);
+        verify(observer).onNext(6.0);
+        verify(observer, times(3)).onNext(anyDouble());
+        verify(observer).onComplete();
+        verify(observer, never()).onError(any());
+    }
+
+    @Test
+    void aggregatesShouldProduceSingleValue() {
+        DoubleObserver sum = mock(DoubleObserver.class);
+        DoubleObserver min = mock(DoubleObserver.class);
+        DoubleObserver max = mock(DoubleObserver.class);
+        DoubleObserver average = mock(DoubleObserver.class);
+        DoubleObservable source = DoubleObservable.of(4.5, -2.25, 9.0, 0.75);
+
+        source.sum().subscribe(sum);
+        source.min().subscribe(min);
+        source.max().subscribe(max);
+        source.average().subscribe(average);
+
+        verify(sum).onNext(12.0);
+        verify(min).onNext(-2.25);
+        verify(max).onNext(9.0);
+        verify(average).onNext(3.0);
+    }
+
+    @Test
+    void aggregatesOfEmptySourceShouldOnlyComplete() {
+        DoubleObserver sum = mock(DoubleObserver.class);
+        DoubleObserver min = mock(DoubleObserver.class);
+        DoubleObserver average = mock(DoubleObserver.class);
+        DoubleObservable source = DoubleObservable.of();
+
+        source.sum().subscribe(sum);
+        source.min().subscribe(min);
+        source.average().subscribe(average);
+
+        verify(sum).onNext(0.0);
+        verify(sum).onComplete();
+        verify(min, never()).onNext(anyDouble());
+        verify(min).onComplete();
+        verify(average, never()).onNext(anyDouble());
+        verify(average).onComplete();
+    }
+
+    @Test
+    void boxedShouldEmitDoubleObjects() {
+        Observer<Double> observer = mock(Observer.class);
+
+        DoubleObservable.of(1.25, -0.5).boxed().subscribe(observer);
+
+        verify(observer).onNext(1.25);
+        verify(observer).onNext(-0.5);
+        verify(observer).onComplete();
+    }
+}
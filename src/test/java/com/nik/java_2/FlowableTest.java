@@ -0,0 +1,192 @@
+package com.nik.java_2;
+
+import com.nik.java_2.interfaces.Observer;
+import com.nik.java_2.interfaces.Subscriber;
+import com.nik.java_2.interfaces.Subscription;
+import com.nik.java_2.scheduler.SingleScheduler;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class FlowableTest {
+
+    @Test
+    void sourceShouldEmitOnlyRequestedItems() {
+        AtomicInteger generated = new AtomicInteger();
+        List<Integer> received = new ArrayList<>();
+        Subscription[] subscription = new Subscription[1];
+
+        Flowable.<Integer>generate(obs -> obs.onNext(generated.incrementAndGet()))
+                .subscribe(new Subscriber<Integer>() {
+                    @Override
+                    public void onSubscribe(Subscription s) {
+                        subscription[0] = s;
+                        s.request(2);
+                    }
+
+                    @Override
+                    public void onNext(Integer item) {
+                        received.add(item);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        fail(t);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        fail("infinite source completed");
+                    }
+                });
+
+        assertEquals(List.of(1, 2), received);
+        assertEquals(2, generated.get());
+
+        subscription[0].request(3);
+        assertEquals(List.of(1, 2, 3, 4, 5), received);
+
+        subscription[0].cancel();
+        subscription[0].request(10);
+        assertEquals(5, generated.get());
+    }
+
+    @Test
+    void operatorsShouldTransformValues() {
+        Observer<String> observer = mock(Observer.class);
+
+        Flowable.range(1, 10)
+                .filter(value -> value % 2 == 0)
+                .map(value -> "Number: " + value)
+                .limit(3)
+                .subscribe(observer);
+
+        verify(observer).onNext("Number: 2");
+        verify(observer).onNext("Number: 4");
+        verify(observer).onNext("Number: 6");
+        verify(observer, times(3)).onNext(anyString());
+        verify(observer).onComplete();
+        verify(observer, never()).onError(any());
+    }
+
+    @Test
+    void limitShouldStopInfiniteSource() {
+        AtomicInteger generated = new AtomicInteger();
+        Observer<Integer> observer = mock(Observer.class);
+
+        Flowable.<Integer>generate(obs -> obs.onNext(generated.incrementAndGet()))
+                .limit(5)
+                .subscribe(observer);
+
+        assertEquals(5, generated.get());
+        verify(observer, times(5)).onNext(anyInt());
+        verify(observer).onComplete();
+    }
+
+    @Test
+    void flatMapShouldWaitForAllInnerFlowables() {
+        Observer<Integer> observer = mock(Observer.class);
+
+        Flowable.range(1, 3)
+                .flatMap(value -> Flowable.range(value * 10, 2), 2)
+                .subscribe(observer);
+
+        verify(observer).onNext(10);
+        verify(observer).onNext(11);
+        verify(observer).onNext(20);
+        verify(observer).onNext(21);
+        verify(observer).onNext(30);
+        verify(observer).onNext(31);
+        verify(observer, times(6)).onNext(anyInt());
+        verify(observer).onComplete();
+    }
+
+    @Test
+    void observeOnShouldBoundOutstandingRequests() throws InterruptedException {
+        AtomicInteger generated = new AtomicInteger();
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch firstItem = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(1);
+
+        Flowable.<Integer>generate(obs -> obs.onNext(generated.incrementAndGet()))
+                .limit(1000)
+                .observeOn(new SingleScheduler(), 16)
+                .subscribe(new Observer<Integer>() {
+                    @Override
+                    public void onNext(Integer item) {
+                        received.add(item);
+                        firstItem.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        completed.countDown();
+                    }
+                });
+
+        assertTrue(firstItem.await(2, TimeUnit.SECONDS));
+        assertEquals(16, generated.get());
+
+        release.countDown();
+        assertTrue(completed.await(2, TimeUnit.SECONDS));
+        assertEquals(1000, received.size());
+        for (int i = 0; i < received.size(); i++) {
+            assertEquals(i + 1, received.get(i));
+        }
+    }
+
+    @Test
+    void nonPositiveRequestShouldSignalErrorThroughOperators() throws InterruptedException {
+        SingleScheduler scheduler = new SingleScheduler();
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch failed = new CountDownLatch(2);
+        Subscriber<Integer> requestingZero = new Subscriber<>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(0);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                fail("no items were requested");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                errors.add(t);
+                failed.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                fail("completed without demand");
+            }
+        };
+
+        Flowable.range(1, 10).observeOn(scheduler).subscribe(requestingZero);
+        Flowable.range(1, 10).flatMap(value -> Flowable.range(value, 2), 2).subscribe(requestingZero);
+
+        assertTrue(failed.await(2, TimeUnit.SECONDS));
+        assertTrue(errors.stream().allMatch(IllegalArgumentException.class::isInstance));
+        scheduler.shutdown();
+    }
+}
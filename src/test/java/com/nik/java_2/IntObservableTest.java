@@ -0,0 +1,97 @@
+package com.nik.java_2;
+
+import com.nik.java_2.interfaces.DoubleObserver;
+import com.nik.java_2.interfaces.IntObserver;
+import com.nik.java_2.interfaces.LongObserver;
+import com.nik.java_2.interfaces.Observer;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class IntObservableTest {
+
+    @Test
+    void operatorsShouldWorkOnPrimitives() {
+        IntObserver observer = mock(IntObserver.class);
+
+        IntObservable.range(1, 10)
+                .filter(value -> value % 2 == 0)
+                .map(value -> value * 10)
+                .limit(3)
+                .subscribe(observer);
+
+        verify(observer).onNext(20);
+        verify(observer).onNext(40);
+        verify(observer).onNext(60);
+        verify(observer, times(3)).onNext(anyInt());
+        verify(observer).onComplete();
+        verify(observer, never()).onError(any());
+    }
+
+    @Test
+    void aggregatesShouldProduceSingleValue() {
+        IntObserver sum = mock(IntObserver.class);
+        IntObserver min = mock(IntObserver.class);
+        IntObserver max = mock(IntObserver.class);
+        DoubleObserver average = mock(DoubleObserver.class);
+        IntObservable source = IntObservable.of(4, -2, 9, 1);
+
+        source.sum().subscribe(sum);
+        source.min().subscribe(min);
+        source.max().subscribe(max);
+        source.average().subscribe(average);
+
+        verify(sum).onNext(12);
+        verify(min).onNext(-2);
+        verify(max).onNext(9);
+        verify(average).onNext(3.0);
+    }
+
+    @Test
+    void minOfEmptySourceShouldOnlyComplete() {
+        LongObserver observer = mock(LongObserver.class);
+
+        LongObservable.range(0, 0).min().subscribe(observer);
+
+        verify(observer, never()).onNext(anyLong());
+        verify(observer).onComplete();
+    }
+
+    @Test
+    void bridgesShouldConvertBetweenBoxedAndPrimitiveStreams() {
+        Observer<String> observer = mock(Observer.class);
+
+        Observable.<String>create(obs -> {
+            obs.onNext("a");
+            obs.onNext("bcd");
+            obs.onComplete();
+        })
+                .mapToInt(String::length)
+                .map(length -> length * 2)
+                .mapToObj(length -> "Length: " + length)
+                .subscribe(observer);
+
+        verify(observer).onNext("Length: 2");
+        verify(observer).onNext("Length: 6");
+        verify(observer).onComplete();
+    }
+
+    @Test
+    void limitShouldStopPrimitiveSource() {
+        AtomicInteger generated = new AtomicInteger();
+
+        IntObservable.create(emitter -> {
+            while (!emitter.isDisposed()) {
+                emitter.onNext(generated.incrementAndGet());
+            }
+        })
+                .limit(5)
+                .subscribe(mock(IntObserver.class));
+
+        assertEquals(5, generated.get());
+    }
+}
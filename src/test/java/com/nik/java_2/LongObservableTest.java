@@ -0,0 +1,79 @@
+package com.nik.java_2;
+
+import com.nik.java_2.interfaces.DoubleObserver;
+import com.nik.java_2.interfaces.LongObserver;
+import com.nik.java_2.interfaces.Observer;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class LongObservableTest {
+
+    @Test
+    void operatorsShouldWorkOnPrimitives() {
+        LongObserver observer = mock(LongObserver.class);
+
+        LongObservable.range(5_000_000_000L, 10)
+                .filter(value -> value % 2 == 1)
+                .map(value -> value - 5_000_000_000L)
+                .limit(3)
+                .subscribe(observer);
+
+        verify(observer).onNext(1L);
+        verify(observer).onNext(3L);
+        verify(observer).onNext(5L);
+        verify(observer, times(3)).onNext(anyLong());
+        verify(observer).onComplete();
+        verify(observer, never()).onError(any());
+    }
+
+    @Test
+    void aggregatesShouldProduceSingleValue() {
+        LongObserver sum = mock(LongObserver.class);
+        LongObserver min = mock(LongObserver.class);
+        LongObserver max = mock(LongObserver.class);
+        DoubleObserver average = mock(DoubleObserver.class);
+        LongObservable source = LongObservable.of(4_000_000_000L, -2, 9, 1);
+
+        source.sum().subscribe(sum);
+        source.min().subscribe(min);
+        source.max().subscribe(max);
+        source.average().subscribe(average);
+
+        verify(sum).onNext(4_000_000_008L);
+        verify(min).onNext(-2L);
+        verify(max).onNext(4_000_000_000L);
+        verify(average).onNext(1_000_000_002.0);
+    }
+
+    @Test
+    void aggregatesOfEmptySourceShouldOnlyComplete() {
+        LongObserver sum = mock(LongObserver.class);
+        LongObserver max = mock(LongObserver.class);
+        DoubleObserver average = mock(DoubleObserver.class);
+        LongObservable source = LongObservable.of();
+
+        source.sum().subscribe(sum);
+        source.max().subscribe(max);
+        source.average().subscribe(average);
+
+        verify(sum).onNext(0L);
+        verify(sum).onComplete();
+        verify(max, never()).onNext(anyLong());
+        verify(max).onComplete();
+        verify(average, never()).onNext(anyDouble());
+        verify(average).onComplete();
+    }
+
+    @Test
+    void boxedShouldEmitLongObjects() {
+        Observer<Long> observer = mock(Observer.class);
+
+        LongObservable.of(7, Long.MAX_VALUE).boxed().subscribe(observer);
+
+        verify(observer).onNext(7L);
+        verify(observer).onNext(Long.MAX_VALUE);
+        verify(observer).onComplete();
+    }
+}
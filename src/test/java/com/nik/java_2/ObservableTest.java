@@ -1,13 +1,23 @@
 package com.nik.java_2;
 
 
+import com.nik.java_2.interfaces.BatchObserver;
 import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.ObservableEmitter;
 import com.nik.java_2.interfaces.Observer;
 import com.nik.java_2.interfaces.Scheduler;
+import com.nik.java_2.scheduler.AbstractScheduler;
+import com.nik.java_2.scheduler.ComputationScheduler;
+import com.nik.java_2.scheduler.IOThreadScheduler;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -135,7 +145,7 @@ class ObservableTest {
 
     @Test
     void subscribeOnShouldRunSubscriptionOnScheduler() throws InterruptedException {
-        Scheduler scheduler = mock(Scheduler.class);
+        Scheduler scheduler = mock(AbstractScheduler.class, CALLS_REAL_METHODS);
         CountDownLatch latch = new CountDownLatch(1);
 
         doAnswer(invocation -> {
@@ -164,19 +174,20 @@ class ObservableTest {
 
     @Test
     void observeOnShouldEmitItemsOnScheduler() throws InterruptedException {
-        Scheduler scheduler = mock(Scheduler.class);
-        CountDownLatch latch = new CountDownLatch(2);
+        Scheduler scheduler = mock(AbstractScheduler.class, CALLS_REAL_METHODS);
+        CountDownLatch latch = new CountDownLatch(1);
 
         doAnswer(invocation -> {
             Runnable task = invocation.getArgument(0);
-            new Thread(() -> {
-                task.run();
-                latch.countDown();
-            }).start();
+            new Thread(task).start();
             return null;
         }).when(scheduler).execute(any(Runnable.class));
 
         Observer<Integer> observer = mock(Observer.class);
+        doAnswer(invocation -> {
+            latch.countDown();
+            return null;
+        }).when(observer).onComplete();
 
         Observable<Integer> observable = Observable.create(obs -> {
             obs.onNext(100);
@@ -188,7 +199,42 @@ class ObservableTest {
         assertTrue(latch.await(2, TimeUnit.SECONDS));
         verify(observer).onNext(100);
         verify(observer).onComplete();
-        verify(scheduler, times(2)).execute(any(Runnable.class));
+        verify(scheduler, atMost(2)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void observeOnShouldPreserveOrderOnMultiThreadedScheduler() throws InterruptedException {
+        List<Integer> received = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Observable.<Integer>create(obs -> {
+            for (int i = 0; i < 10_000; i++) {
+                obs.onNext(i);
+            }
+            obs.onComplete();
+        })
+                .observeOn(new ComputationScheduler())
+                .subscribe(new Observer<Integer>() {
+                    @Override
+                    public void onNext(Integer item) {
+                        received.add(item);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        latch.countDown();
+                    }
+                });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(10_000, received.size());
+        for (int i = 0; i < received.size(); i++) {
+            assertEquals(i, received.get(i));
+        }
     }
 
     @Test
@@ -207,4 +253,596 @@ class ObservableTest {
 
         assertTrue(disposable.isDisposed());
     }
+
+    @Test
+    void limitShouldStopInfiniteSource() {
+        Observer<Integer> observer = mock(Observer.class);
+        AtomicInteger generated = new AtomicInteger();
+
+        Observable.<Integer>create(obs -> {
+            while (!obs.isDisposed()) {
+                obs.onNext(generated.incrementAndGet());
+            }
+        })
+                .map(value -> value * 10)
+                .filter(value -> value > 0)
+                .limit(3)
+                .subscribe(observer);
+
+        assertEquals(3, generated.get());
+        verify(observer).onNext(10);
+        verify(observer).onNext(20);
+        verify(observer).onNext(30);
+        verify(observer).onComplete();
+    }
+
+    @Test
+    void disposeShouldStopUpstreamSource() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch stopped = new CountDownLatch(1);
+
+        Disposable disposable = Observable.<Integer>create(obs -> {
+            int i = 0;
+            while (!obs.isDisposed()) {
+                obs.onNext(i++);
+                started.countDown();
+            }
+            stopped.countDown();
+        })
+                .map(value -> value + 1)
+                .subscribeOn(new IOThreadScheduler())
+                .subscribe(mock(Observer.class));
+
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+        disposable.dispose();
+        assertTrue(stopped.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void flatMapShouldWaitForAsyncInnersAndRespectMaxConcurrency() throws InterruptedException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> received = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        IOThreadScheduler scheduler = new IOThreadScheduler();
+
+        Observable.<Integer>create(obs -> {
+            for (int i = 0; i < 20; i++) {
+                obs.onNext(i);
+            }
+            obs.onComplete();
+        })
+                .flatMap(value -> Observable.<Integer>create(inner -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                    inner.onNext(value);
+                    inner.onComplete();
+                }).subscribeOn(scheduler), 3)
+                .subscribe(new Observer<Integer>() {
+                    @Override
+                    public void onNext(Integer item) {
+                        received.add(item);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        latch.countDown();
+                    }
+                });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(20, received.size());
+        assertTrue(maxRunning.get() <= 3);
+    }
+
+    @Test
+    void flatMapShouldNotCompleteBeforeQueuedAsyncInner() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(4);
+        for (int round = 0; round < 200; round++) {
+            AtomicInteger received = new AtomicInteger();
+            CountDownLatch latch = new CountDownLatch(1);
+
+            Observable.<Integer>create(obs -> {
+                for (int i = 0; i < 20; i++) {
+                    obs.onNext(i);
+                }
+                obs.onComplete();
+            })
+                    .subscribeOn(scheduler)
+                    .flatMap(value -> Observable.just(value).subscribeOn(scheduler), 1)
+                    .subscribe(new Observer<Integer>() {
+                        @Override
+                        public void onNext(Integer item) {
+                            received.incrementAndGet();
+                        }
+
+                        @Override
+                        public void onError(Throwable t) {
+                            fail(t);
+                        }
+
+                        @Override
+                        public void onComplete() {
+                            latch.countDown();
+                        }
+                    });
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(20, received.get(), "round " + round);
+        }
+        scheduler.shutdown();
+    }
+
+    @Test
+    void fusedChainShouldApplyStagesInOrder() {
+        Observer<String> observer = mock(Observer.class);
+
+        Observable.<Integer>create(obs -> {
+            for (int i = 1; i <= 10; i++) {
+                obs.onNext(i);
+            }
+            obs.onComplete();
+        })
+                .map(value -> value * 3)
+                .limit(6)
+                .filter(value -> value % 2 == 0)
+                .map(value -> "Value: " + value)
+                .subscribe(observer);
+
+        verify(observer).onNext("Value: 6");
+        verify(observer).onNext("Value: 12");
+        verify(observer).onNext("Value: 18");
+        verify(observer, times(3)).onNext(anyString());
+        verify(observer).onComplete();
+    }
+
+    @Test
+    void fusedChainShouldStopOnMapperError() {
+        Observer<Integer> observer = mock(Observer.class);
+        RuntimeException failure = new RuntimeException("boom");
+        AtomicInteger generated = new AtomicInteger();
+
+        Observable.<Integer>create(obs -> {
+            while (!obs.isDisposed()) {
+                obs.onNext(generated.incrementAndGet());
+            }
+        })
+                .map(value -> {
+                    if (value == 3) {
+                        throw failure;
+                    }
+                    return value;
+                })
+                .filter(value -> true)
+                .subscribe(observer);
+
+        assertEquals(3, generated.get());
+        verify(observer, times(2)).onNext(anyInt());
+        verify(observer).onError(failure);
+    }
+
+    @Test
+    void workerShouldRunTasksInOrderWithoutOverlap() throws InterruptedException {
+        Scheduler scheduler = new ComputationScheduler(4);
+        Scheduler.Worker first = scheduler.createWorker();
+        Scheduler.Worker second = scheduler.createWorker();
+        List<Integer> firstOrder = new ArrayList<>();
+        List<Integer> secondOrder = new ArrayList<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(2_000);
+
+        for (int i = 0; i < 1_000; i++) {
+            int value = i;
+            first.execute(() -> {
+                if (running.incrementAndGet() > 1) {
+                    overlaps.incrementAndGet();
+                }
+                firstOrder.add(value);
+                running.decrementAndGet();
+                latch.countDown();
+            });
+            second.execute(() -> {
+                secondOrder.add(value);
+                latch.countDown();
+            });
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(0, overlaps.get());
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(i, firstOrder.get(i));
+            assertEquals(i, secondOrder.get(i));
+        }
+    }
+
+    @Test
+    void batchShouldPassThroughFusedChain() {
+        List<Integer> batchSizes = new ArrayList<>();
+        List<String> received = new ArrayList<>();
+        Observer<String> plain = mock(Observer.class);
+        Observable<String> observable = Observable.<Integer>create(obs -> {
+                    Integer[] items = new Integer[10];
+                    for (int i = 0; i < items.length; i++) {
+                        items[i] = i + 1;
+                    }
+                    obs.onNextBatch(items, items.length);
+                    obs.onComplete();
+                })
+                .filter(value -> value % 2 == 0)
+                .map(value -> "Number: " + value)
+                .limit(4);
+
+        observable.subscribe(new BatchObserver<String>() {
+            @Override
+            public void onNextBatch(Object[] items, int count) {
+                batchSizes.add(count);
+                for (int i = 0; i < count; i++) {
+                    received.add((String) items[i]);
+                }
+            }
+
+            @Override
+            public void onNext(String item) {
+                received.add(item);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail(t);
+            }
+
+            @Override
+            public void onComplete() {
+                received.add("done");
+            }
+        });
+        observable.subscribe(plain);
+
+        assertEquals(List.of(4), batchSizes);
+        assertEquals(List.of("Number: 2", "Number: 4", "Number: 6", "Number: 8", "done"), received);
+        verify(plain, times(4)).onNext(anyString());
+        verify(plain).onNext("Number: 8");
+        verify(plain).onComplete();
+    }
+
+    @Test
+    void observeOnShouldDeliverBatchesInOrder() throws InterruptedException {
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger batches = new AtomicInteger();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        Observable.<Integer>create(obs -> {
+                    Integer[] items = new Integer[1000];
+                    for (int i = 0; i < items.length; i++) {
+                        items[i] = i;
+                    }
+                    obs.onNextBatch(items, items.length);
+                    obs.onComplete();
+                })
+                .observeOn(new ComputationScheduler(2))
+                .subscribe(new BatchObserver<Integer>() {
+                    @Override
+                    public void onNextBatch(Object[] items, int count) {
+                        batches.incrementAndGet();
+                        for (int i = 0; i < count; i++) {
+                            received.add((Integer) items[i]);
+                        }
+                    }
+
+                    @Override
+                    public void onNext(Integer item) {
+                        received.add(item);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        completed.countDown();
+                    }
+                });
+
+        assertTrue(completed.await(2, TimeUnit.SECONDS));
+        assertEquals(1000, received.size());
+        for (int i = 0; i < received.size(); i++) {
+            assertEquals(i, received.get(i));
+        }
+        assertTrue(batches.get() < 1000);
+    }
+
+    @Test
+    void bufferShouldEmitFixedSizeAndSlidingLists() {
+        Observer<List<Integer>> exact = mock(Observer.class);
+        Observer<List<Integer>> sliding = mock(Observer.class);
+        Observer<List<Integer>> skipping = mock(Observer.class);
+
+        Observable.range(1, 7).buffer(3).subscribe(exact);
+        Observable.range(1, 5).buffer(3, 1).subscribe(sliding);
+        Observable.range(1, 7).buffer(2, 3).subscribe(skipping);
+
+        InOrder exactOrder = inOrder(exact);
+        exactOrder.verify(exact).onNext(List.of(1, 2, 3));
+        exactOrder.verify(exact).onNext(List.of(4, 5, 6));
+        exactOrder.verify(exact).onNext(List.of(7));
+        exactOrder.verify(exact).onComplete();
+
+        InOrder slidingOrder = inOrder(sliding);
+        slidingOrder.verify(sliding).onNext(List.of(1, 2, 3));
+        slidingOrder.verify(sliding).onNext(List.of(2, 3, 4));
+        slidingOrder.verify(sliding).onNext(List.of(3, 4, 5));
+        slidingOrder.verify(sliding).onNext(List.of(4, 5));
+        slidingOrder.verify(sliding).onNext(List.of(5));
+        slidingOrder.verify(sliding).onComplete();
+
+        InOrder skippingOrder = inOrder(skipping);
+        skippingOrder.verify(skipping).onNext(List.of(1, 2));
+        skippingOrder.verify(skipping).onNext(List.of(4, 5));
+        skippingOrder.verify(skipping).onNext(List.of(7));
+        skippingOrder.verify(skipping).onComplete();
+    }
+
+    @Test
+    void bufferShouldTakeListsFromSupplier() {
+        List<List<Integer>> pool = new ArrayList<>();
+        AtomicInteger created = new AtomicInteger();
+        List<Integer> sums = new ArrayList<>();
+
+        Observable.range(1, 100)
+                .buffer(10, 10, () -> {
+                    if (!pool.isEmpty()) {
+                        return pool.remove(pool.size() - 1);
+                    }
+                    created.incrementAndGet();
+                    return new ArrayList<>(10);
+                })
+                .subscribe(new Observer<List<Integer>>() {
+                    @Override
+                    public void onNext(List<Integer> item) {
+                        sums.add(item.stream().mapToInt(Integer::intValue).sum());
+                        item.clear();
+                        pool.add(item);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        fail(t);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                    }
+                });
+
+        assertEquals(1, created.get());
+        assertEquals(10, sums.size());
+        assertEquals(55, sums.get(0));
+        assertEquals(955, sums.get(9));
+    }
+
+    @Test
+    void timedBufferShouldEmitBySizeAndByTime() throws InterruptedException {
+        List<List<Integer>> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch timed = new CountDownLatch(2);
+        ObservableEmitter<Integer>[] source = new ObservableEmitter[1];
+        ComputationScheduler scheduler = new ComputationScheduler(1);
+
+        Observable.<Integer>create(obs -> source[0] = obs)
+                .buffer(50, TimeUnit.MILLISECONDS, 3, scheduler)
+                .subscribe(new Observer<List<Integer>>() {
+                    @Override
+                    public void onNext(List<Integer> item) {
+                        received.add(item);
+                        timed.countDown();
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                    }
+
+                    @Override
+                    public void onComplete() {
+                    }
+                });
+
+        for (int i = 1; i <= 4; i++) {
+            source[0].onNext(i);
+        }
+        assertTrue(timed.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of(1, 2, 3), List.of(4)), received);
+
+        source[0].onNext(5);
+        source[0].onComplete();
+        assertEquals(List.of(5), received.get(2));
+        scheduler.shutdown();
+    }
+
+    @Test
+    void cacheShouldRunSourceOnceAndReplayAllItems() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Observable<Integer> cached = Observable.<Integer>create(obs -> {
+            subscriptions.incrementAndGet();
+            for (int i = 0; i < 1000; i++) {
+                obs.onNext(i);
+            }
+            obs.onComplete();
+        }).cache();
+        List<Integer> first = new ArrayList<>();
+        List<Integer> second = new ArrayList<>();
+
+        cached.subscribe(collector(first));
+        cached.subscribe(collector(second));
+
+        assertEquals(1, subscriptions.get());
+        assertEquals(1000, first.size());
+        assertEquals(first, second);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, second.get(i));
+        }
+    }
+
+    @Test
+    void replayShouldKeepLastItemsForLateSubscribers() {
+        ObservableEmitter<Integer>[] source = new ObservableEmitter[1];
+        Observable<Integer> replayed = Observable.<Integer>create(obs -> source[0] = obs).replay(3);
+        List<Integer> early = new ArrayList<>();
+        List<Integer> late = new ArrayList<>();
+
+        replayed.subscribe(collector(early));
+        for (int i = 0; i < 300; i++) {
+            source[0].onNext(i);
+        }
+        replayed.subscribe(collector(late));
+        source[0].onNext(300);
+
+        assertEquals(301, early.size());
+        assertEquals(List.of(297, 298, 299, 300), late);
+    }
+
+    private static <T> Observer<T> collector(List<T> target) {
+        return new Observer<T>() {
+            @Override
+            public void onNext(T item) {
+                target.add(item);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail(t);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        };
+    }
+
+    @Test
+    void builtInSourcesShouldEmitValues() {
+        List<Integer> received = new ArrayList<>();
+        Observer<Integer> failing = mock(Observer.class);
+        Observer<Integer> silent = mock(Observer.class);
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        Observable.just(1).subscribe(collector(received));
+        Observable.fromArray(2, 3).subscribe(collector(received));
+        Observable.fromIterable(List.of(4, 5)).subscribe(collector(received));
+        Observable.range(6, 3).subscribe(collector(received));
+        Observable.<Integer>empty().subscribe(collector(received));
+        Observable.<Integer>error(failure).subscribe(failing);
+        Observable.<Integer>never().subscribe(silent);
+
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8), received);
+        verify(failing).onError(failure);
+        verify(silent, never()).onNext(any());
+        verify(silent, never()).onComplete();
+        verify(silent, never()).onError(any());
+    }
+
+    @Test
+    void fromArrayShouldRejectNullsAndCopyItems() {
+        assertThrows(NullPointerException.class, () -> Observable.fromArray(1, null, 3));
+        assertThrows(NullPointerException.class, () -> Observable.fromArray((Integer) null));
+        Integer[] items = {1, 2, 3};
+        List<Integer> received = new ArrayList<>();
+
+        Observable<Integer> source = Observable.fromArray(items);
+        items[0] = 10;
+        source.subscribe(collector(received));
+
+        assertEquals(List.of(1, 2, 3), received);
+    }
+
+    @Test
+    void fusedChainShouldStopIteratingSyncSource() {
+        AtomicInteger pulled = new AtomicInteger();
+        Iterable<Integer> numbers = () -> new java.util.Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return pulled.incrementAndGet();
+            }
+        };
+        List<Integer> received = new ArrayList<>();
+
+        Observable.fromIterable(numbers)
+                .filter(value -> value % 2 == 0)
+                .map(value -> value * 10)
+                .limit(3)
+                .subscribe(collector(received));
+
+        assertEquals(List.of(20, 40, 60), received);
+        assertEquals(6, pulled.get());
+    }
+
+    @Test
+    void flatMapShouldTakeScalarValuesDirectly() {
+        List<Integer> received = new ArrayList<>();
+
+        Observable.range(1, 6)
+                .flatMap(value -> value % 3 == 0 ? Observable.<Integer>empty() : Observable.just(value * 100))
+                .subscribe(collector(received));
+
+        assertEquals(List.of(100, 200, 400, 500), received);
+    }
+
+    @Test
+    void flatMapShouldQueueScalarValuesOverConcurrencyLimit() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(1);
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch completed = new CountDownLatch(1);
+
+        Observable.range(1, 4)
+                .flatMap(value -> value == 1 ? Observable.just(value).subscribeOn(scheduler) : Observable.just(value), 1)
+                .subscribe(new Observer<Integer>() {
+                    @Override
+                    public void onNext(Integer item) {
+                        received.add(item);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        fail(t);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        completed.countDown();
+                    }
+                });
+
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(1, 2, 3, 4), received);
+        scheduler.shutdown();
+    }
+
+    @Test
+    void emitterShouldAcceptObjectArrayBatches() {
+        List<String> received = new ArrayList<>();
+
+        Observable.<String>create(obs -> {
+            Object[] reusable = {"a", "b", "c", null};
+            obs.onNextBatch(reusable, 3);
+            obs.onComplete();
+        })
+                .map(String::toUpperCase)
+                .subscribe(collector(received));
+
+        assertEquals(List.of("A", "B", "C"), received);
+    }
 }
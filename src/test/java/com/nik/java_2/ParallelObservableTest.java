@@ -0,0 +1,326 @@
+package com.nik.java_2;
+
+import com.nik.java_2.interfaces.Observer;
+import com.nik.java_2.scheduler.ComputationScheduler;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ParallelObservableTest {
+
+    @Test
+    void railsShouldProcessAllItemsOnSchedulerThreads() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(4);
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch completed = new CountDownLatch(1);
+        AtomicInteger errors = new AtomicInteger();
+
+        Observable.range(1, 1000)
+                .parallel(4)
+                .runOn(scheduler)
+                .filter(value -> value % 2 == 0)
+                .map(value -> {
+                    threads.add(Thread.currentThread().getName());
+                    return value * 10;
+                })
+                .sequential()
+                .subscribe(new Observer<Integer>() {
+                    @Override
+                    public void onNext(Integer item) {
+                        received.add(item);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        errors.incrementAndGet();
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        completed.countDown();
+                    }
+                });
+
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(0, errors.get());
+        assertEquals(500, received.size());
+        List<Integer> sorted = new ArrayList<>(received);
+        Collections.sort(sorted);
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals((i + 1) * 20, sorted.get(i));
+        }
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("rx-")));
+        scheduler.shutdown();
+    }
+
+    @Test
+    void reduceShouldCombineAllRails() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(4);
+        Observer<Integer> observer = mock(Observer.class);
+        CountDownLatch completed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            completed.countDown();
+            return null;
+        }).when(observer).onComplete();
+
+        Observable.range(1, 100)
+                .parallel(3)
+                .runOn(scheduler)
+                .reduce(Integer::sum)
+                .subscribe(observer);
+
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        verify(observer).onNext(5050);
+        verify(observer, times(1)).onNext(anyInt());
+        verify(observer, never()).onError(any());
+        scheduler.shutdown();
+    }
+
+    @Test
+    void reduceShouldStopAfterReducerFailure() {
+        Observer<Integer> observer = mock(Observer.class);
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger generated = new AtomicInteger();
+
+        Observable.<Integer>create(obs -> {
+            for (int i = 1; i <= 100 && !obs.isDisposed(); i++) {
+                generated.incrementAndGet();
+                obs.onNext(i);
+            }
+            obs.onComplete();
+        })
+                .parallel(1)
+                .reduce((a, b) -> {
+                    if (calls.incrementAndGet() == 3) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return a + b;
+                })
+                .subscribe(observer);
+
+        assertEquals(3, calls.get());
+        assertEquals(4, generated.get());
+        verify(observer, times(1)).onError(any(IllegalStateException.class));
+        verify(observer, never()).onNext(any());
+        verify(observer, never()).onComplete();
+    }
+
+    @Test
+    void errorInRailShouldTerminateOnce() {
+        Observer<Integer> observer = mock(Observer.class);
+
+        Observable.range(1, 10)
+                .parallel(2)
+                .map(value -> {
+                    if (value == 3) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return value;
+                })
+                .sequential()
+                .subscribe(observer);
+
+        verify(observer, times(1)).onError(any(IllegalStateException.class));
+        verify(observer, never()).onComplete();
+    }
+
+    @Test
+    void parallelMapOrderedShouldKeepSourceOrder() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(8);
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        Observable.range(1, 200)
+                .parallelMapOrdered(value -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(value % 3);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    inFlight.decrementAndGet();
+                    return value * 2;
+                }, 4, scheduler)
+                .subscribe(new Observer<Integer>() {
+                    @Override
+                    public void onNext(Integer item) {
+                        received.add(item);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        completed.countDown();
+                    }
+                });
+
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(200, received.size());
+        for (int i = 0; i < received.size(); i++) {
+            assertEquals((i + 1) * 2, received.get(i));
+        }
+        assertTrue(maxInFlight.get() <= 4);
+        scheduler.shutdown();
+    }
+
+    @Test
+    void parallelMapOrderedShouldEmitPrecedingItemsBeforeError() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(4);
+        Observer<Integer> observer = mock(Observer.class);
+        CountDownLatch failed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            failed.countDown();
+            return null;
+        }).when(observer).onError(any());
+
+        Observable.range(1, 50)
+                .parallelMapOrdered(value -> {
+                    if (value == 5) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return value;
+                }, 4, scheduler)
+                .subscribe(observer);
+
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        InOrder inOrder = inOrder(observer);
+        for (int i = 1; i < 5; i++) {
+            inOrder.verify(observer).onNext(i);
+        }
+        inOrder.verify(observer).onError(any(IllegalStateException.class));
+        verify(observer, times(4)).onNext(anyInt());
+        verify(observer, never()).onComplete();
+        scheduler.shutdown();
+    }
+
+    @Test
+    void parallelMapOrderedShouldStopSubmittingAfterUpstreamError() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(8);
+        Observer<Integer> observer = mock(Observer.class);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch failed = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            failed.countDown();
+            return null;
+        }).when(observer).onError(any());
+
+        Observable.<Integer>create(obs -> {
+            for (int i = 1; i <= 100; i++) {
+                obs.onNext(i);
+            }
+            obs.onError(new IllegalStateException("upstream"));
+        })
+                .parallelMapOrdered(value -> {
+                    calls.incrementAndGet();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return value;
+                }, 4, scheduler)
+                .subscribe(observer);
+        release.countDown();
+
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        assertEquals(4, calls.get());
+        InOrder inOrder = inOrder(observer);
+        for (int i = 1; i <= 4; i++) {
+            inOrder.verify(observer).onNext(i);
+        }
+        inOrder.verify(observer).onError(any(IllegalStateException.class));
+        scheduler.shutdown();
+    }
+
+    @Test
+    void partitionShouldKeepOrderPerKey() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(4);
+        List<List<Integer>> lanes = new ArrayList<>();
+        List<Observer<Integer>> observers = new ArrayList<>();
+        CountDownLatch completed = new CountDownLatch(4);
+        for (int i = 0; i < 4; i++) {
+            List<Integer> lane = Collections.synchronizedList(new ArrayList<>());
+            lanes.add(lane);
+            observers.add(new Observer<Integer>() {
+                @Override
+                public void onNext(Integer item) {
+                    lane.add(item);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+
+                @Override
+                public void onComplete() {
+                    completed.countDown();
+                }
+            });
+        }
+
+        Observable.range(1, 1000)
+                .partition(4, value -> value % 10, scheduler)
+                .subscribe(observers);
+
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        int total = 0;
+        Map<Integer, Integer> laneByKey = new HashMap<>();
+        for (int laneIndex = 0; laneIndex < lanes.size(); laneIndex++) {
+            List<Integer> lane = lanes.get(laneIndex);
+            total += lane.size();
+            for (int i = 0; i < lane.size(); i++) {
+                if (i > 0) {
+                    assertTrue(lane.get(i - 1) < lane.get(i));
+                }
+                Integer previous = laneByKey.putIfAbsent(lane.get(i) % 10, laneIndex);
+                assertTrue(previous == null || previous == laneIndex);
+            }
+        }
+        assertEquals(1000, total);
+        scheduler.shutdown();
+    }
+
+    @Test
+    void partitionShouldMergeLanes() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(4);
+        Observer<Integer> observer = mock(Observer.class);
+        CountDownLatch completed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            completed.countDown();
+            return null;
+        }).when(observer).onComplete();
+
+        Observable.range(1, 100)
+                .partition(3, value -> value % 7, scheduler)
+                .map(value -> value * 2)
+                .sequential()
+                .subscribe(observer);
+
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        verify(observer, times(100)).onNext(anyInt());
+        verify(observer).onNext(200);
+        verify(observer, never()).onError(any());
+        scheduler.shutdown();
+    }
+}
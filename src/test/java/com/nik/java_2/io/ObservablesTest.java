@@ -0,0 +1,216 @@
+package com.nik.java_2.io;
+
+import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.Observer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ObservablesTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void linesShouldSplitFileAcrossWindows() throws IOException {
+        StringBuilder content = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String line = i == 250 ? "y".repeat(200) : "строка " + i + "x".repeat(i % 37);
+            expected.add(line);
+            content.append(line).append(i % 5 == 0 ? "\r\n" : "\n");
+        }
+        content.append("хвост без перевода строки");
+        expected.add("хвост без перевода строки");
+        Path file = Files.writeString(directory.resolve("log.txt"), content, StandardCharsets.UTF_8);
+        List<String> received = new ArrayList<>();
+        Observer<String> observer = mock(Observer.class);
+        doAnswer(invocation -> received.add(invocation.getArgument(0))).when(observer).onNext(any());
+
+        Observables.lines(file, StandardCharsets.UTF_8, 64)
+                .map(Line::toString)
+                .subscribe(observer);
+
+        assertEquals(expected, received);
+        verify(observer).onComplete();
+        verify(observer, never()).onError(any());
+    }
+
+    @Test
+    void linesShouldFilterWithoutDecoding() throws IOException {
+        Path file = Files.writeString(directory.resolve("app.log"),
+                "INFO start\nERROR disk full\nINFO tick\nERROR timeout\n", StandardCharsets.US_ASCII);
+        byte[] error = "ERROR".getBytes(StandardCharsets.US_ASCII);
+        List<String> received = new ArrayList<>();
+
+        Observables.lines(file, StandardCharsets.US_ASCII)
+                .filter(line -> line.startsWith(error))
+                .map(Line::toString)
+                .subscribe(new Observer<String>() {
+                    @Override
+                    public void onNext(String item) {
+                        received.add(item);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        fail(t);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                    }
+                });
+
+        assertEquals(List.of("ERROR disk full", "ERROR timeout"), received);
+    }
+
+    @Test
+    void linesShouldStopReadingOnDispose() throws IOException {
+        Path file = Files.writeString(directory.resolve("big.txt"), "line\n".repeat(10_000), StandardCharsets.UTF_8);
+        AtomicInteger received = new AtomicInteger();
+        Disposable[] subscription = new Disposable[1];
+
+        Observables.lines(file, StandardCharsets.UTF_8).subscribe(new Observer<Line>() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                subscription[0] = d;
+            }
+
+            @Override
+            public void onNext(Line item) {
+                if (received.incrementAndGet() == 10) {
+                    subscription[0].dispose();
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail(t);
+            }
+
+            @Override
+            public void onComplete() {
+                fail("disposed source completed");
+            }
+        });
+
+        assertEquals(10, received.get());
+    }
+
+    @Test
+    void linesShouldRejectMultiByteNewlineCharset() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Observables.lines(directory.resolve("any.txt"), StandardCharsets.UTF_16));
+    }
+
+    @Test
+    void readShouldDeliverChunksInOrderReusingBuffers() throws Exception {
+        byte[] content = new byte[10_500];
+        new Random(7).nextBytes(content);
+        Path file = Files.write(directory.resolve("data.bin"), content);
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        Set<ByteBuffer> buffers = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Integer> sizes = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        Observables.read(file, 1000, 3).subscribe(new Observer<ByteBuffer>() {
+            @Override
+            public void onNext(ByteBuffer item) {
+                buffers.add(item);
+                sizes.add(item.remaining());
+                byte[] bytes = new byte[item.remaining()];
+                item.get(bytes);
+                received.writeBytes(bytes);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                error.set(t);
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                done.countDown();
+            }
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertNull(error.get());
+        assertArrayEquals(content, received.toByteArray());
+        assertEquals(11, sizes.size());
+        assertEquals(500, sizes.get(10));
+        assertTrue(buffers.size() <= 3);
+        assertTrue(buffers.iterator().next().isDirect());
+    }
+
+    @Test
+    void readShouldStopOnDispose() throws Exception {
+        Path file = Files.write(directory.resolve("big.bin"), new byte[1 << 20]);
+        AtomicInteger received = new AtomicInteger();
+        Disposable[] subscription = new Disposable[1];
+        CountDownLatch disposed = new CountDownLatch(1);
+
+        Observables.read(file, 1024, 4).subscribe(new Observer<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                subscription[0] = d;
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                if (received.incrementAndGet() == 5) {
+                    subscription[0].dispose();
+                    disposed.countDown();
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail(t);
+            }
+
+            @Override
+            public void onComplete() {
+                fail("disposed source completed");
+            }
+        });
+
+        assertTrue(disposed.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(5, received.get());
+    }
+
+    @Test
+    void readShouldReportMissingFile() {
+        Observer<ByteBuffer> observer = mock(Observer.class);
+
+        Observables.read(directory.resolve("missing.bin")).subscribe(observer);
+
+        verify(observer).onError(any(NoSuchFileException.class));
+        verify(observer, never()).onNext(any());
+    }
+}
@@ -0,0 +1,165 @@
+package com.nik.java_2.net;
+
+import com.nik.java_2.Observable;
+import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.Observer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SocketsTest {
+    private SelectorLoop loop;
+    private ServerSocketChannel server;
+    private Disposable accepting;
+
+    @BeforeEach
+    void startEchoServer() throws IOException {
+        loop = new SelectorLoop(1024);
+        server = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        accepting = Sockets.accept(server, loop).subscribe(new Observer<>() {
+            @Override
+            public void onNext(SocketChannel channel) {
+                Sockets.read(channel, loop).subscribe(Sockets.writer(channel, loop));
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail(t);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+    }
+
+    @AfterEach
+    void stop() throws Exception {
+        accepting.dispose();
+        loop.shutdown();
+        assertTrue(loop.awaitTermination(5, TimeUnit.SECONDS));
+        server.close();
+    }
+
+    @Test
+    void echoShouldServeManyConnectionsOnOneLoop() throws Exception {
+        int clients = 100;
+        CountDownLatch done = new CountDownLatch(clients);
+        Map<Integer, String> received = new ConcurrentHashMap<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        for (int i = 0; i < clients; i++) {
+            int id = i;
+            Sockets.connect(server.getLocalAddress(), loop).subscribe(new Observer<>() {
+                @Override
+                public void onNext(SocketChannel channel) {
+                    ByteArrayOutputStream echo = new ByteArrayOutputStream();
+                    Sockets.read(channel, loop).subscribe(collector(echo, () -> {
+                        received.put(id, echo.toString(StandardCharsets.UTF_8));
+                        done.countDown();
+                    }, error));
+                    Observer<ByteBuffer> writer = Sockets.writer(channel, loop);
+                    for (int part = 0; part < 3; part++) {
+                        writer.onNext(ByteBuffer.wrap(("client " + id + " part " + part + ";").getBytes(StandardCharsets.UTF_8)));
+                    }
+                    writer.onComplete();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    error.set(t);
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertNull(error.get());
+        for (int i = 0; i < clients; i++) {
+            assertEquals("client " + i + " part 0;client " + i + " part 1;client " + i + " part 2;", received.get(i));
+        }
+    }
+
+    @Test
+    void writerShouldFlushDataLargerThanSocketBuffers() throws Exception {
+        byte[] payload = new byte[4 * 1024 * 1024];
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] = (byte) (i * 31);
+        }
+        ByteArrayOutputStream echo = new ByteArrayOutputStream();
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        SocketChannel channel = SocketChannel.open(server.getLocalAddress());
+
+        Sockets.read(channel, loop).subscribe(collector(echo, done::countDown, error));
+        Observer<ByteBuffer> writer = Sockets.writer(channel, loop);
+        for (int offset = 0; offset < payload.length; offset += 10_000) {
+            writer.onNext(ByteBuffer.wrap(payload, offset, Math.min(10_000, payload.length - offset)));
+        }
+        writer.onComplete();
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertNull(error.get());
+        assertArrayEquals(payload, echo.toByteArray());
+    }
+
+    @Test
+    void writerOnStoppedLoopShouldCancelSource() throws Exception {
+        SelectorLoop stopped = new SelectorLoop(1024);
+        stopped.shutdown();
+        assertTrue(stopped.awaitTermination(5, TimeUnit.SECONDS));
+        AtomicBoolean cancelled = new AtomicBoolean();
+
+        try (SocketChannel channel = SocketChannel.open(server.getLocalAddress())) {
+            Observable.<ByteBuffer>create(emitter -> {
+                emitter.onNext(ByteBuffer.wrap(new byte[]{1, 2, 3}));
+                cancelled.set(emitter.isDisposed());
+            }).subscribe(Sockets.writer(channel, stopped));
+        }
+
+        assertTrue(cancelled.get());
+    }
+
+    private static Observer<ByteBuffer> collector(ByteArrayOutputStream target, Runnable onComplete,
+                                                  AtomicReference<Throwable> error) {
+        return new Observer<>() {
+            @Override
+            public void onNext(ByteBuffer item) {
+                byte[] bytes = new byte[item.remaining()];
+                item.get(bytes);
+                target.writeBytes(bytes);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                error.set(t);
+                onComplete.run();
+            }
+
+            @Override
+            public void onComplete() {
+                onComplete.run();
+            }
+        };
+    }
+}
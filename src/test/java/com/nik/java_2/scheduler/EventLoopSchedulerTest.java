@@ -0,0 +1,109 @@
+package com.nik.java_2.scheduler;
+
+import com.nik.java_2.Observable;
+import com.nik.java_2.interfaces.Observer;
+import com.nik.java_2.interfaces.Scheduler;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventLoopSchedulerTest {
+
+    @Test
+    void workerShouldStayOnOneLoopThread() throws InterruptedException {
+        EventLoopScheduler scheduler = new EventLoopScheduler(4, EventLoopScheduler.Assignment.ROUND_ROBIN);
+        Scheduler.Worker worker = scheduler.createWorker();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        List<Integer> order = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1_000);
+
+        for (int i = 0; i < 1_000; i++) {
+            int value = i;
+            worker.execute(() -> {
+                threads.add(Thread.currentThread());
+                order.add(value);
+                latch.countDown();
+            });
+        }
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertEquals(1, threads.size());
+        for (int i = 0; i < order.size(); i++) {
+            assertEquals(i, order.get(i));
+        }
+        scheduler.shutdown();
+        assertTrue(scheduler.awaitTermination(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void leastLoadedAssignmentShouldSpreadWorkers() throws InterruptedException {
+        EventLoopScheduler scheduler = new EventLoopScheduler(3, EventLoopScheduler.Assignment.LEAST_LOADED);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(3);
+
+        Scheduler.Worker first = scheduler.createWorker();
+        first.dispose();
+        List<Scheduler.Worker> workers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            workers.add(scheduler.createWorker());
+        }
+        for (Scheduler.Worker worker : workers) {
+            worker.execute(() -> {
+                threads.add(Thread.currentThread());
+                latch.countDown();
+            });
+        }
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertEquals(3, threads.size());
+        scheduler.shutdown();
+    }
+
+    @Test
+    void observeOnShouldDeliverEventsOnEventLoop() throws InterruptedException {
+        EventLoopScheduler scheduler = new EventLoopScheduler(2, EventLoopScheduler.Assignment.ROUND_ROBIN);
+        AtomicInteger received = new AtomicInteger();
+        Set<String> threadNames = new HashSet<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Observable.<Integer>create(emitter -> {
+            for (int i = 0; i < 10_000; i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        })
+                .observeOn(scheduler)
+                .subscribe(new Observer<Integer>() {
+                    @Override
+                    public void onNext(Integer item) {
+                        received.incrementAndGet();
+                        threadNames.add(Thread.currentThread().getName());
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        latch.countDown();
+                    }
+                });
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertEquals(10_000, received.get());
+        assertEquals(1, threadNames.size());
+        assertTrue(threadNames.iterator().next().startsWith("rx-event-loop-"));
+        scheduler.shutdown();
+        assertTrue(scheduler.awaitTermination(1, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,74 @@
+package com.nik.java_2.scheduler;
+
+import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.Scheduler;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedWheelTimerTest {
+
+    @Test
+    void scheduleShouldRunTaskOnSchedulerAfterDelay() throws InterruptedException {
+        Scheduler scheduler = Schedulers.single();
+        AtomicReference<String> threadName = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        scheduler.schedule(() -> {
+            threadName.set(Thread.currentThread().getName());
+            latch.countDown();
+        }, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertTrue(threadName.get().startsWith("rx-single-"));
+    }
+
+    @Test
+    void disposedTaskShouldNotRun() throws InterruptedException {
+        AtomicInteger executed = new AtomicInteger();
+        CountDownLatch later = new CountDownLatch(1);
+
+        Disposable disposable = Schedulers.computation().schedule(executed::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+        Schedulers.computation().schedule(later::countDown, 60, TimeUnit.MILLISECONDS);
+        disposable.dispose();
+
+        assertTrue(later.await(2, TimeUnit.SECONDS));
+        assertEquals(0, executed.get());
+    }
+
+    @Test
+    void periodicTaskShouldRepeatUntilDisposed() throws InterruptedException {
+        AtomicInteger executed = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(5);
+
+        Disposable disposable = Schedulers.computation().schedulePeriodically(() -> {
+            executed.incrementAndGet();
+            latch.countDown();
+        }, 0, 5, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        disposable.dispose();
+        int afterDispose = executed.get();
+        Thread.sleep(50);
+        assertTrue(executed.get() <= afterDispose + 1);
+    }
+
+    @Test
+    void wheelShouldHandleManyTimersSpanningSeveralRounds() throws InterruptedException {
+        HashedWheelTimer timer = new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 8);
+        CountDownLatch latch = new CountDownLatch(10_000);
+
+        for (int i = 0; i < 10_000; i++) {
+            timer.schedule(Runnable::run, latch::countDown, i % 40, TimeUnit.MILLISECONDS);
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,158 @@
+package com.nik.java_2.scheduler;
+
+import com.nik.java_2.interfaces.Scheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchedulersTest {
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        Schedulers.awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void schedulersShouldBeShared() {
+        assertSame(Schedulers.computation(), Schedulers.computation());
+        assertSame(Schedulers.io(), Schedulers.io());
+        assertSame(Schedulers.single(), Schedulers.single());
+        assertSame(Schedulers.eventLoop(), Schedulers.eventLoop());
+    }
+
+    @Test
+    void threadsShouldBeNamedDaemons() throws InterruptedException {
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Schedulers.computation().execute(() -> {
+            thread.set(Thread.currentThread());
+            latch.countDown();
+        });
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertTrue(thread.get().isDaemon());
+        assertTrue(thread.get().getName().startsWith("rx-computation-"));
+    }
+
+    @Test
+    void awaitTerminationShouldDrainQueuedTasks() throws InterruptedException {
+        SingleScheduler scheduler = Schedulers.single();
+        AtomicInteger executed = new AtomicInteger();
+        for (int i = 0; i < 100; i++) {
+            scheduler.execute(executed::incrementAndGet);
+        }
+
+        assertTrue(Schedulers.awaitTermination(2, TimeUnit.SECONDS));
+        assertEquals(100, executed.get());
+        assertTrue(scheduler.isShutdown());
+        assertNotSame(scheduler, Schedulers.single());
+    }
+
+    @Test
+    void virtualThreadSchedulerShouldRespectConcurrencyCap() throws InterruptedException {
+        VirtualThreadScheduler scheduler = new VirtualThreadScheduler(4);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1_000);
+
+        for (int i = 0; i < 1_000; i++) {
+            scheduler.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                latch.countDown();
+            });
+        }
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertTrue(maxRunning.get() <= 4);
+        scheduler.shutdown();
+        assertTrue(scheduler.awaitTermination(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void virtualThreadSchedulerShouldRunTasksOnVirtualThreads() throws InterruptedException {
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Schedulers.virtual().execute(() -> {
+            thread.set(Thread.currentThread());
+            latch.countDown();
+        });
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertTrue(thread.get().isVirtual());
+    }
+
+    @Test
+    void forkJoinSchedulerShouldRunNestedTasks() throws InterruptedException {
+        ForkJoinScheduler scheduler = Schedulers.forkJoin();
+        CountDownLatch latch = new CountDownLatch(100 * 100);
+        AtomicReference<String> threadName = new AtomicReference<>();
+
+        for (int i = 0; i < 100; i++) {
+            scheduler.execute(() -> {
+                for (int j = 0; j < 100; j++) {
+                    scheduler.execute(() -> {
+                        threadName.set(Thread.currentThread().getName());
+                        latch.countDown();
+                    });
+                }
+            });
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(threadName.get().startsWith("rx-forkjoin-"));
+    }
+
+    @Test
+    void workerShouldKeepRunningTasksAfterTaskFailure() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(2);
+        Scheduler.Worker worker = scheduler.createWorker();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        worker.execute(() -> {
+            throw new IllegalStateException("task failure");
+        });
+        worker.execute(latch::countDown);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        scheduler.shutdown();
+    }
+
+    @Test
+    void forkJoinSchedulerShouldReportLocalAndExternalTaskFailures() throws InterruptedException {
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        CountDownLatch reported = new CountDownLatch(2);
+        ForkJoinScheduler scheduler = new ForkJoinScheduler(2, (thread, error) -> {
+            errors.add(error);
+            reported.countDown();
+        });
+
+        scheduler.execute(() -> {
+            scheduler.execute(() -> {
+                throw new IllegalStateException("local");
+            });
+            throw new IllegalStateException("external");
+        });
+
+        assertTrue(reported.await(2, TimeUnit.SECONDS));
+        assertEquals(Set.of("local", "external"),
+                Set.of(errors.get(0).getMessage(), errors.get(1).getMessage()));
+        scheduler.shutdown();
+    }
+}
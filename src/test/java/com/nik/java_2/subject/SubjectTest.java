@@ -0,0 +1,126 @@
+package com.nik.java_2.subject;
+
+import com.nik.java_2.interfaces.Disposable;
+import com.nik.java_2.interfaces.Observer;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SubjectTest {
+
+    @Test
+    void publishSubjectShouldMulticastOnlyNewEvents() {
+        PublishSubject<Integer> subject = PublishSubject.create();
+        Observer<Integer> first = mock(Observer.class);
+        Observer<Integer> second = mock(Observer.class);
+
+        subject.subscribe(first);
+        subject.onNext(1);
+        Disposable secondSubscription = subject.subscribe(second);
+        subject.onNext(2);
+        secondSubscription.dispose();
+        subject.onNext(3);
+        subject.onComplete();
+
+        verify(first).onNext(1);
+        verify(first).onNext(2);
+        verify(first).onNext(3);
+        verify(first).onComplete();
+        verify(second, times(1)).onNext(anyInt());
+        verify(second).onNext(2);
+        verify(second, never()).onComplete();
+        assertFalse(subject.hasObservers());
+    }
+
+    @Test
+    void publishSubjectShouldTerminateLateSubscriber() {
+        PublishSubject<Integer> subject = PublishSubject.create();
+        IllegalStateException failure = new IllegalStateException("boom");
+        Observer<Integer> late = mock(Observer.class);
+
+        subject.onError(failure);
+        subject.subscribe(late);
+
+        verify(late).onError(failure);
+        verify(late, never()).onNext(any());
+    }
+
+    @Test
+    void behaviorSubjectShouldReplayLatestValue() {
+        BehaviorSubject<String> subject = BehaviorSubject.createDefault("initial");
+        Observer<String> first = mock(Observer.class);
+        Observer<String> second = mock(Observer.class);
+
+        subject.subscribe(first);
+        subject.onNext("a");
+        subject.onNext("b");
+        subject.subscribe(second);
+        subject.onNext("c");
+
+        InOrder firstOrder = inOrder(first);
+        firstOrder.verify(first).onNext("initial");
+        firstOrder.verify(first).onNext("a");
+        firstOrder.verify(first).onNext("b");
+        firstOrder.verify(first).onNext("c");
+        InOrder secondOrder = inOrder(second);
+        secondOrder.verify(second).onNext("b");
+        secondOrder.verify(second).onNext("c");
+        verify(second, times(2)).onNext(anyString());
+        assertEquals("c", subject.getValue());
+    }
+
+    @Test
+    void replaySubjectShouldBeBoundedBySize() {
+        ReplaySubject<Integer> subject = ReplaySubject.createWithSize(2);
+        List<Integer> received = new ArrayList<>();
+        AtomicInteger completed = new AtomicInteger();
+
+        for (int i = 1; i <= 5; i++) {
+            subject.onNext(i);
+        }
+        subject.onComplete();
+        subject.subscribe(new Observer<Integer>() {
+            @Override
+            public void onNext(Integer item) {
+                received.add(item);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail(t);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.incrementAndGet();
+            }
+        });
+
+        assertEquals(List.of(4, 5), received);
+        assertEquals(1, completed.get());
+    }
+
+    @Test
+    void replaySubjectShouldDropExpiredItems() throws InterruptedException {
+        ReplaySubject<Integer> subject = ReplaySubject.createWithTime(50, TimeUnit.MILLISECONDS);
+        Observer<Integer> observer = mock(Observer.class);
+
+        subject.onNext(1);
+        Thread.sleep(100);
+        subject.onNext(2);
+        subject.subscribe(observer);
+        subject.onNext(3);
+
+        verify(observer, never()).onNext(1);
+        verify(observer).onNext(2);
+        verify(observer).onNext(3);
+    }
+}